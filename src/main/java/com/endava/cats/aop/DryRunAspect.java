@@ -1,22 +1,28 @@
 package com.endava.cats.aop;
 
 import com.endava.cats.annotations.DryRun;
+import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.FilterArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.json.JsonUtils;
+import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.MDC;
 
 import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.TreeMap;
 
 import static org.fusesource.jansi.Ansi.ansi;
@@ -31,11 +37,16 @@ import static org.fusesource.jansi.Ansi.ansi;
 @Interceptor
 public class DryRunAspect {
 
+    private static final int TOP_CONTRIBUTORS = 10;
     private final PrettyLogger logger = PrettyLoggerFactory.getConsoleLogger();
     private final Map<String, Integer> paths = new TreeMap<>();
+    private final Map<String, Integer> fuzzers = new TreeMap<>();
     @Inject
     FilterArguments filterArguments;
 
+    @Inject
+    ApiArguments apiArguments;
+
     @Inject
     ReportingArguments reportingArguments;
 
@@ -69,12 +80,53 @@ public class DryRunAspect {
         } else {
             logger.noFormat("\n");
             CatsUtil.setCatsLogLevel("INFO");
-            logger.info("Number of tests that will be run with this configuration: {}", paths.values().stream().reduce(0, Integer::sum));
+            int totalTests = paths.values().stream().reduce(0, Integer::sum);
+            logger.info("Number of tests that will be run with this configuration: {}", totalTests);
             paths.forEach((s, integer) -> logger.star(ansi().fgBrightYellow().bold().a(" -> path {}: {} tests").toString(), s, integer));
+            this.printEstimate(totalTests);
         }
         return null;
     }
 
+    private void printEstimate(int totalTests) {
+        Duration estimatedDuration = estimateDuration(totalTests, apiArguments.getMaxRequestsPerMinute(), filterArguments.getDryRunLatency());
+        logger.noFormat("\n");
+        logger.info("Estimated number of requests: {}", totalTests);
+        logger.info("Estimated duration: {} with --maxRequestsPerMinute={}{}", estimatedDuration.toString().toLowerCase(Locale.ROOT).substring(2),
+                apiArguments.getMaxRequestsPerMinute(), filterArguments.getDryRunLatency() > 0 ? " and --dryRunLatency=" + filterArguments.getDryRunLatency() : ". Supply --dryRunLatency to include the service response time");
+        logger.info("Fuzzers generating most tests:");
+        topContributors(fuzzers).forEach(entry -> logger.star(ansi().fgBrightYellow().bold().a(" -> fuzzer {}: {} tests ({}%)").toString(), entry.getKey(), entry.getValue(), percentage(entry.getValue(), totalTests)));
+        logger.info("Paths generating most tests:");
+        topContributors(paths).forEach(entry -> logger.star(ansi().fgBrightYellow().bold().a(" -> path {}: {} tests ({}%)").toString(), entry.getKey(), entry.getValue(), percentage(entry.getValue(), totalTests)));
+    }
+
+    /**
+     * Estimates the duration of a run. Requests are sent sequentially, so the run takes at least the sum of all response times,
+     * but it cannot go faster than the rate allowed by {@code --maxRequestsPerMinute}.
+     *
+     * @param requests             the number of requests
+     * @param maxRequestsPerMinute the configured rate limit
+     * @param latencyInMs          the average response time of the service in milliseconds, 0 if unknown
+     * @return the estimated duration of the run
+     */
+    static Duration estimateDuration(int requests, int maxRequestsPerMinute, int latencyInMs) {
+        long rateLimitedMs = (long) Math.ceil(requests * 60_000.0 / maxRequestsPerMinute);
+        long latencyMs = (long) requests * latencyInMs;
+
+        return Duration.ofSeconds((long) Math.ceil(Math.max(rateLimitedMs, latencyMs) / 1000.0));
+    }
+
+    static List<Map.Entry<String, Integer>> topContributors(Map<String, Integer> testsPerKey) {
+        return testsPerKey.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(TOP_CONTRIBUTORS)
+                .toList();
+    }
+
+    private static String percentage(int tests, int totalTests) {
+        return String.format(Locale.ROOT, "%.1f", totalTests == 0 ? 0 : tests * 100.0 / totalTests);
+    }
+
     public Object report(InvocationContext context) {
         Object data = context.getParameters()[1];
 
@@ -83,6 +135,7 @@ public class DryRunAspect {
                 logger.noFormat(StringUtils.repeat("..", 1 + (counter / 10000)));
             }
             paths.merge(fuzzingData.getPath() + "_" + fuzzingData.getMethod(), 1, Integer::sum);
+            fuzzers.merge(Optional.ofNullable(MDC.get(TestCaseListener.FUZZER_KEY)).orElse("unknown"), 1, Integer::sum);
         }
         counter++;
         return null;
@@ -106,7 +159,7 @@ public class DryRunAspect {
             if (context.getMethod().getName().startsWith("getErrors")) {
                 return 0;
             }
-            if (context.getMethod().getName().startsWith("writeTestCase")) {
+            if (context.getMethod().getName().startsWith("writeTestCase") || context.getMethod().getName().startsWith("writeOperationFingerprints")) {
                 return dontWriteTestCase();
             }
             if (context.getMethod().getName().startsWith("initReportingPath")) {
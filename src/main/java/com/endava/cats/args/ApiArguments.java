@@ -32,6 +32,26 @@ public class ApiArguments {
             defaultValue = "10")
     private int readTimeout = 10;
 
+    @CommandLine.Option(names = {"--deduplicateRequests"},
+            description = "Send identical requests (same method, URL, headers and body) only once and reuse the response for all tests sending them. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private boolean deduplicateRequests;
+
+    @CommandLine.Option(names = {"--deduplicateCacheSize"},
+            description = "Maximum size in MB of the response bodies kept in memory for --deduplicateRequests. Each distinct request keeps its full response, so memory grows up to this size plus the headers of the cached responses. " +
+                    "Least recently used responses are evicted first. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "100")
+    private int deduplicateCacheSize = 100;
+
+    @CommandLine.Option(names = {"--circuitBreakerThreshold"},
+            description = "Number of consecutive connection failures or timeouts for a path after which the remaining tests for that path are skipped. 0 disables the circuit breaker. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private int circuitBreakerThreshold;
+
+    @CommandLine.Option(names = {"--circuitBreakerOpenTime"},
+            description = "Time period in seconds after which a single probe request is sent to a path with an open circuit breaker to check if it recovered. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "30")
+    private int circuitBreakerOpenTime = 30;
+
     @Setter
     @CommandLine.Option(names = {"-c", "--contract"},
             description = "The OpenAPI contract")
@@ -20,16 +20,18 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Singleton
 public class FilesArguments {
     private static final String ALL = "all";
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(this.getClass());
-    private Map<String, Map<String, Object>> headers;
-    private Map<String, Map<String, Object>> queryParams;
-    private Map<String, Map<String, Object>> refData;
+    private Map<String, Map<String, Object>> headers = Collections.emptyMap();
+    private Map<String, Map<String, Object>> queryParams = Collections.emptyMap();
+    private Map<String, Map<String, Object>> refData = Collections.emptyMap();
     private Map<String, Map<String, Object>> customFuzzerDetails = new HashMap<>();
     private Map<String, Map<String, Object>> securityFuzzerDetails = new HashMap<>();
 
@@ -82,6 +84,12 @@ public class FilesArguments {
     @Setter
     private boolean createRefData;
 
+    @CommandLine.Option(names = {"--functionalFuzzerThreads"},
+            description = "The number of threads used by the @|bold FunctionalFuzzer|@ to run independent test chains. Tests sharing @|bold output|@ variables are always run in order within the same chain. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    @Getter
+    @Setter
+    private int functionalFuzzerThreads = 1;
+
     /**
      * Loads all supplied files for --securityFuzzerFile, --customFuzzerFile, --refData, --urlParams and --headers.
      *
@@ -115,11 +123,11 @@ public class FilesArguments {
     }
 
     public void loadRefData() throws IOException {
-        this.refData = this.loadFileAsMapOfMapsOfStrings(refDataFile, "Reference Data");
+        this.refData = mergePathsWithAll(this.loadFileAsMapOfMapsOfStrings(refDataFile, "Reference Data"));
     }
 
     public void loadQueryParams() throws IOException {
-        this.queryParams = this.loadFileAsMapOfMapsOfStrings(queryFile, "Query Params");
+        this.queryParams = mergePathsWithAll(this.loadFileAsMapOfMapsOfStrings(queryFile, "Query Params"));
     }
 
     public void loadURLParams() {
@@ -131,16 +139,17 @@ public class FilesArguments {
     }
 
     public void loadHeaders() throws IOException {
-        this.headers = this.loadFileAsMapOfMapsOfStrings(headersFile, "Headers");
+        Map<String, Map<String, Object>> headersFromFile = this.loadFileAsMapOfMapsOfStrings(headersFile, "Headers");
 
         /*Merge headers from file with the ones supplied using the -H argument*/
         if (headersMap != null) {
-            headers.merge(ALL, headersMap, (stringStringMap, stringStringMap2) -> {
+            headersFromFile.merge(ALL, headersMap, (stringStringMap, stringStringMap2) -> {
                 Map<String, Object> mergedMap = new HashMap<>(stringStringMap);
                 mergedMap.putAll(stringStringMap2);
                 return mergedMap;
             });
         }
+        this.headers = mergePathsWithAll(headersFromFile);
     }
 
     /**
@@ -223,10 +232,36 @@ public class FilesArguments {
     }
 
 
-    static Map<String, Object> getPathAndAll(Map<String, Map<String, Object>> collection, String path) {
-        return collection.entrySet().stream()
-                .filter(entry -> entry.getKey().equalsIgnoreCase(path) || entry.getKey().equalsIgnoreCase(ALL))
-                .map(Map.Entry::getValue).collect(HashMap::new, Map::putAll, Map::putAll);
+    static Map<String, Object> getPathAndAll(Map<String, Map<String, Object>> mergedPerPath, String path) {
+        Map<String, Object> allEntries = mergedPerPath.getOrDefault(ALL, Collections.emptyMap());
+        if (path == null) {
+            return allEntries;
+        }
+        return mergedPerPath.getOrDefault(path.toLowerCase(Locale.ROOT), allEntries);
+    }
+
+    /**
+     * Merges the entries of each path with the {@code all} entries once, when the file is loaded,
+     * so that the per-request lookups don't need to merge them again.
+     * Entries are merged in the order they appear in the file, with later entries overriding earlier ones.
+     *
+     * @param collection the map loaded from file with paths being the Map keys
+     * @return an immutable map having lowercase paths as keys and the merged path and {@code all} entries as values
+     */
+    static Map<String, Map<String, Object>> mergePathsWithAll(Map<String, Map<String, Object>> collection) {
+        Map<String, Map<String, Object>> mergedPerPath = new HashMap<>();
+        for (String path : collection.keySet()) {
+            Map<String, Object> merged = new HashMap<>();
+            collection.entrySet().stream()
+                    .filter(entry -> entry.getKey().equalsIgnoreCase(path) || entry.getKey().equalsIgnoreCase(ALL))
+                    .map(Map.Entry::getValue)
+                    .filter(Objects::nonNull)
+                    .forEach(merged::putAll);
+            mergedPerPath.put(path.toLowerCase(Locale.ROOT), Collections.unmodifiableMap(merged));
+        }
+        mergedPerPath.putIfAbsent(ALL, Collections.emptyMap());
+
+        return Collections.unmodifiableMap(mergedPerPath);
     }
 
     private Map<String, Map<String, Object>> loadFileAsMapOfMapsOfStrings(File file, String fileType) throws IOException {
@@ -15,6 +15,7 @@ import com.endava.cats.annotations.ValidateAndTrim;
 import com.endava.cats.annotations.WhitespaceFuzzer;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.http.HttpMethod;
+import com.google.common.hash.Hashing;
 import lombok.Getter;
 import org.springframework.core.annotation.AnnotationUtils;
 import picocli.CommandLine;
@@ -22,7 +23,9 @@ import picocli.CommandLine;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.io.File;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -69,6 +72,23 @@ public class FilterArguments {
     @CommandLine.Option(names = {"-d", "--dryRun"},
             description = "Simulate a possible run without actually invoking the service. This will print how many tests will actually be executed and with which Fuzzers")
     private boolean dryRun;
+    @CommandLine.Option(names = {"--dryRunLatency"},
+            description = "Average response time of the service in milliseconds, used by @|bold --dryRun|@ to estimate the duration of the run. You can take it from a short calibration run restricted with @|bold --paths|@ and @|bold --fuzzers|@")
+    private int dryRunLatency;
+    @CommandLine.Option(names = {"--incrementalFrom"},
+            description = "A previous version of the contract or the @|bold cats-fingerprints.json|@ file written in the report folder by a previous run. When supplied, only the operations which changed since then will be fuzzed")
+    private File incrementalFrom;
+    @CommandLine.Option(names = {"--prioritizeFrom"},
+            description = "The @|bold cats-summary-report.json|@ of a previous run. When supplied, paths and fuzzers with the highest error and warning rate in that run are run first, followed by the slowest ones. Useful for time-boxed runs")
+    private File prioritizeFrom;
+    @CommandLine.Option(names = {"--shardCount"},
+            description = "Split the run in this number of shards, each shard being executed by a separate CATS process. Each path and fuzzer combination is assigned to exactly one shard. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "1")
+    private int shardCount = 1;
+    @CommandLine.Option(names = {"--shardIndex"},
+            description = "The shard executed by this CATS process, between 0 and @|bold --shardCount|@ - 1. Reports from all shards can be combined using the @|bold merge|@ command. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private int shardIndex;
 
 
     public List<String> getSkipFuzzers() {
@@ -87,6 +107,31 @@ public class FilterArguments {
         return Optional.ofNullable(this.paths).orElse(Collections.emptyList());
     }
 
+    /**
+     * Checks if the given path and fuzzer combination must be executed by the current shard.
+     * Combinations are spread across shards using a hash, so that each shard gets a similar amount of work.
+     *
+     * @param path   the contract path
+     * @param fuzzer the fuzzer name
+     * @return true if the combination belongs to the current shard, false otherwise
+     */
+    public boolean isAssignedToCurrentShard(String path, String fuzzer) {
+        if (shardCount <= 1) {
+            return true;
+        }
+        int hash = Hashing.murmur3_32_fixed().hashString(path + " " + fuzzer, StandardCharsets.UTF_8).asInt();
+        return Math.floorMod(hash, shardCount) == shardIndex;
+    }
+
+    public void validateShards(CommandLine.Model.CommandSpec spec) {
+        if (shardCount < 1) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "--shardCount must be at least 1");
+        }
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "--shardIndex must be between 0 and %d".formatted(shardCount - 1));
+        }
+    }
+
     public List<String> getFirstPhaseFuzzersForPath() {
         if (FUZZERS_TO_BE_RUN.isEmpty()) {
             List<String> allowedFuzzers = processSuppliedFuzzers();
@@ -226,5 +271,9 @@ public class FilterArguments {
         this.skipPaths = Collections.emptyList();
         this.httpMethods = HttpMethod.restMethods();
         this.dryRun = false;
+        this.incrementalFrom = null;
+        this.prioritizeFrom = null;
+        this.shardCount = 1;
+        this.shardIndex = 0;
     }
 }
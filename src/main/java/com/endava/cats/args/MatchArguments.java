@@ -34,6 +34,16 @@ public class MatchArguments {
             description = "A regex that will match against the response that will be matched as @|bold,underline error|@. All other response body matches will be ignored from the final report. If provided, all Contract Fuzzers will be skipped")
     private String matchResponseRegex;
 
+    @CommandLine.Option(names = {"--maxExamplesPerCluster"},
+            description = "Used by the @|bold fuzz|@ sub-command. Matched responses are grouped in clusters by response code and the SHA-256 of the body " +
+                    "after masking the fuzzed value, UUIDs, dates, hex tokens, numbers and whitespace. Grouping is exact equality after masking, so near-duplicate bodies are not merged. " +
+                    "Only the first @|bold N|@ responses from each cluster will be reported. Default: @|bold,underline 0|@, which reports all responses")
+    private int maxExamplesPerCluster;
+
+    @CommandLine.Option(names = {"--stopAfterClusters"},
+            description = "Used by the @|bold fuzz|@ sub-command. Stop fuzzing once the given number of distinct clusters of matched responses was found. Default: @|bold,underline 0|@, which never stops early")
+    private int stopAfterClusters;
+
 
     public boolean isAnyMatchArgumentSupplied() {
         return matchResponseCodes != null || matchResponseSizes != null
@@ -62,6 +72,26 @@ public class MatchArguments {
         return body.matches(Optional.ofNullable(matchResponseRegex).orElse(""));
     }
 
+    /**
+     * Checks if a matched response must be reported, based on its position within its cluster of similar responses.
+     *
+     * @param positionInCluster the position of the response within its cluster, starting from 1
+     * @return true if the response must be reported, false otherwise
+     */
+    public boolean isReportedClusterExample(int positionInCluster) {
+        return maxExamplesPerCluster <= 0 || positionInCluster <= maxExamplesPerCluster;
+    }
+
+    /**
+     * Checks if enough distinct clusters of matched responses were found in order to stop fuzzing.
+     *
+     * @param numberOfClusters the number of distinct clusters found so far
+     * @return true if fuzzing must stop, false otherwise
+     */
+    public boolean isStopConditionReached(int numberOfClusters) {
+        return stopAfterClusters > 0 && numberOfClusters >= stopAfterClusters;
+    }
+
     public List<String> getMatchResponseCodes() {
         return Optional.ofNullable(matchResponseCodes).orElse(Collections.emptyList());
     }
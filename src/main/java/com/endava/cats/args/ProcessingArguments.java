@@ -1,5 +1,6 @@
 package com.endava.cats.args;
 
+import com.endava.cats.context.PostResponsesStore;
 import lombok.Getter;
 import lombok.Setter;
 import picocli.CommandLine;
@@ -38,6 +39,30 @@ public class ProcessingArguments {
             description = "Max depth for objects having cyclic dependencies. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private int selfReferenceDepth = 3;
 
+    @CommandLine.Option(names = {"--maxStoredPostResponses"},
+            description = "The maximum number of successful POST responses kept for each path in order to resolve the parameters of the corresponding DELETE requests. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int maxStoredPostResponses = PostResponsesStore.DEFAULT_MAX_PER_PATH;
+
+    @CommandLine.Option(names = {"--storedPostResponsesTtl"},
+            description = "Number of seconds after which stored POST responses are discarded. If not supplied, they are kept until used by a DELETE request or evicted by newer ones")
+    private long storedPostResponsesTtl;
+
+    @CommandLine.Option(names = {"--oneOfAnyOfStrategy"},
+            description = "How oneOf/anyOf combinations are expanded into request payloads. @|bold,underline ALL|@ generates every combination, while @|bold,underline PAIRWISE|@ generates fewer combinations covering each pair of branches at least once. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private CombinationStrategy oneOfAnyOfStrategy = CombinationStrategy.ALL;
+
+    @CommandLine.Option(names = {"--maxOneOfAnyOfCombinations"},
+            description = "The maximum number of oneOf/anyOf combinations expanded into request payloads for a schema. When exceeded, a @|bold,underline PAIRWISE|@ selection is used and trimmed to this value. If not supplied, there is no limit")
+    private int maxOneOfAnyOfCombinations;
+
+    @CommandLine.Option(names = {"--prefetchPaths"},
+            description = "Number of upcoming paths for which the fuzzing data is built in the background while the current path is fuzzed. Ignored when --seed is supplied. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int prefetchPaths;
+
+    @CommandLine.Option(names = {"--seed"},
+            description = "Seed used to generate random values. When supplied, runs using the same seed and contract will generate the same values. If not supplied, a secure random generator is used")
+    private Long seed;
+
     @Setter
     @CommandLine.Option(names = {"--contentType"},
             description = "A custom mime type if the OpenAPI spec uses content type negotiation versioning. Default: @|bold,underline ${DEFAULT-VALUE}|@")
@@ -67,4 +92,8 @@ public class ProcessingArguments {
     public enum SetFuzzingStrategy {
         POWERSET, SIZE, ONEBYONE;
     }
+
+    public enum CombinationStrategy {
+        ALL, PAIRWISE;
+    }
 }
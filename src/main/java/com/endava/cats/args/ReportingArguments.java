@@ -8,6 +8,7 @@ import jakarta.inject.Singleton;
 import lombok.Getter;
 import picocli.CommandLine;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -63,6 +64,24 @@ public class ReportingArguments {
             description = "If true checks if there is a CATS update available and prints the release notes along with the links. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private boolean checkUpdate = true;
 
+    @CommandLine.Option(names = {"--metricsFile"},
+            description = "Write run metrics in Prometheus text format to this file, at regular intervals and at the end of the run. Useful together with the node-exporter textfile collector")
+    private File metricsFile;
+
+    @CommandLine.Option(names = {"--metricsInterval"},
+            description = "Time period in seconds between two writes of the @|bold --metricsFile|@. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "15")
+    private int metricsInterval = 15;
+
+    @CommandLine.Option(names = {"--progress"},
+            description = "Display the progress of the run: completed paths and tests, requests per second, p95 latency and estimated time to finish")
+    private boolean progress;
+
+    @CommandLine.Option(names = {"--progressInterval"},
+            description = "Time period in seconds between two progress lines when the output is not a terminal. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "30")
+    private int progressInterval = 30;
+
     public List<String> getLogData() {
         return Optional.ofNullable(logData).orElse(Collections.emptyList());
     }
@@ -21,6 +21,11 @@ public class UserArguments {
     @Setter
     File words;
 
+    @CommandLine.Option(names = {"--templateFuzzerThreads"},
+            description = "The number of threads used by the @|bold TemplateFuzzer|@ to send requests in parallel. The only other throttle is @|bold,underline --maxRequestsPerMinute|@. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    @Setter
+    int templateFuzzerThreads = 1;
+
     public List<String> getWordsAsList() {
         try {
             return Files.readAllLines(Path.of(words.getAbsolutePath()), StandardCharsets.UTF_8);
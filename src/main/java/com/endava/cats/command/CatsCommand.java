@@ -12,14 +12,20 @@ import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.args.UserArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.factory.FuzzingDataFactory;
+import com.endava.cats.factory.FuzzingDataPrefetcher;
 import com.endava.cats.factory.NoMediaType;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.special.FunctionalFuzzer;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.openapi.OpenApiFingerprints;
 import com.endava.cats.openapi.OpenApiUtils;
+import com.endava.cats.report.ExecutionHistory;
 import com.endava.cats.report.ExecutionStatisticsListener;
+import com.endava.cats.report.OpenMetricsExporter;
+import com.endava.cats.report.ProgressReporter;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.CatsRandom;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.VersionChecker;
 import com.endava.cats.util.VersionProvider;
@@ -37,10 +43,13 @@ import picocli.CommandLine;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -65,6 +74,7 @@ import static org.fusesource.jansi.Ansi.ansi;
                 AutoComplete.GenerateCompletion.class,
                 CommandLine.HelpCommand.class,
                 ListCommand.class,
+                MergeCommand.class,
                 ReplayCommand.class,
                 RunCommand.class,
                 TemplateFuzzCommand.class,
@@ -118,6 +128,12 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     @Inject
     ExecutionStatisticsListener executionStatisticsListener;
 
+    @Inject
+    OpenMetricsExporter openMetricsExporter;
+
+    @Inject
+    ProgressReporter progressReporter;
+
     @Inject
     CatsGlobalContext globalContext;
 
@@ -129,12 +145,20 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     private int exitCodeDueToErrors;
 
+    private Map<String, String> previousFingerprints;
+
+    private Set<String> operationsToFuzz = Collections.emptySet();
+
+    private ExecutionHistory executionHistory;
+
     @Override
     public void run() {
         try {
             Future<VersionChecker.CheckResult> newVersion = this.checkForNewVersion();
             testCaseListener.startSession();
+            openMetricsExporter.start();
             this.doLogic();
+            openMetricsExporter.stop();
             testCaseListener.endSession();
             this.printSuggestions();
             this.printVersion(newVersion);
@@ -218,30 +242,103 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         globalContext.getSchemaMap().putAll(allSchemasFromOpenApi);
         globalContext.getSchemaMap().put(NoMediaType.EMPTY_BODY, NoMediaType.EMPTY_BODY_SCHEMA);
         globalContext.getExampleMap().putAll(OpenApiUtils.getExamples(openAPI));
+        globalContext.getPostSuccessfulResponses().configure(processingArguments.getMaxStoredPostResponses(), processingArguments.getStoredPostResponsesTtl());
         logger.debug("Schemas: {}", allSchemasFromOpenApi.keySet());
     }
 
     public void startFuzzing(OpenAPI openAPI) {
         List<String> suppliedPaths = this.matchSuppliedPathsWithContractPaths(openAPI);
+        this.computeOperationsToFuzz(openAPI);
+        LinkedHashSet<Map.Entry<String, PathItem>> sortedPaths = this.sortPaths(openAPI);
+        List<Map.Entry<String, PathItem>> pathsToFuzz = sortedPaths.stream().filter(entry -> suppliedPaths.contains(entry.getKey()) && !this.hasNoOperationToFuzz(entry)).toList();
+        progressReporter.start(pathsToFuzz.size());
+
+        try (FuzzingDataPrefetcher fuzzingDataPrefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, pathsToFuzz, this.getPrefetchPaths())) {
+            for (Map.Entry<String, PathItem> entry : sortedPaths) {
+
+                if (!suppliedPaths.contains(entry.getKey())) {
+                    logger.skip("Skipping path {}", entry.getKey());
+                } else if (this.hasNoOperationToFuzz(entry)) {
+                    logger.skip("Skipping path {} as none of its operations changed since the --incrementalFrom version", entry.getKey());
+                } else {
+                    this.startPath(entry);
+                    this.fuzzPath(entry, fuzzingDataPrefetcher.next());
+                    progressReporter.pathCompleted();
+                }
+            }
+        }
+        progressReporter.stop();
+    }
 
-        for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI)) {
+    /**
+     * Building FuzzingData consumes random values, so prefetching is disabled when a {@code --seed} is supplied
+     * in order to keep runs reproducible.
+     */
+    private int getPrefetchPaths() {
+        if (processingArguments.getPrefetchPaths() > 0 && processingArguments.getSeed() != null) {
+            logger.config("Ignoring --prefetchPaths as --seed is supplied");
+            return 0;
+        }
+        return processingArguments.getPrefetchPaths();
+    }
 
-            if (suppliedPaths.contains(entry.getKey())) {
-                this.fuzzPath(entry, openAPI);
-            } else {
-                logger.skip("Skipping path {}", entry.getKey());
-            }
+    /**
+     * Computes the fingerprints of the current contract and, when {@code --incrementalFrom} is supplied,
+     * keeps only the operations whose fingerprint is different from the previous version.
+     *
+     * @param openAPI the OpenAPI object parsed from the contract
+     */
+    private void computeOperationsToFuzz(OpenAPI openAPI) {
+        Map<String, String> currentFingerprints = OpenApiFingerprints.fingerprintOperations(openAPI);
+        testCaseListener.writeOperationFingerprints(currentFingerprints);
+
+        operationsToFuzz = currentFingerprints.entrySet().stream()
+                .filter(entry -> previousFingerprints == null || !entry.getValue().equals(previousFingerprints.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        if (previousFingerprints != null) {
+            logger.config("Incremental mode: {} operations changed out of {} total operations: {}", operationsToFuzz.size(), currentFingerprints.size(), new TreeSet<>(operationsToFuzz));
         }
     }
 
-    private LinkedHashSet<Map.Entry<String, PathItem>> sortPathsAlphabetically(OpenAPI openAPI) {
+    private boolean hasNoOperationToFuzz(Map.Entry<String, PathItem> pathItemEntry) {
+        return pathItemEntry.getValue().readOperationsMap().keySet().stream()
+                .noneMatch(method -> this.isOperationToFuzz(method.name(), pathItemEntry.getKey()));
+    }
+
+    private boolean isOperationToFuzz(String httpMethod, String path) {
+        return previousFingerprints == null || operationsToFuzz.contains(OpenApiFingerprints.operationKey(httpMethod, path));
+    }
+
+    private void loadPreviousFingerprints() throws IOException {
+        previousFingerprints = null;
+        if (filterArguments.getIncrementalFrom() != null) {
+            logger.config("Loading previous fingerprints from {}", filterArguments.getIncrementalFrom().getAbsolutePath());
+            previousFingerprints = OpenApiFingerprints.loadFingerprints(filterArguments.getIncrementalFrom());
+        }
+    }
+
+    private LinkedHashSet<Map.Entry<String, PathItem>> sortPaths(OpenAPI openAPI) {
+        Comparator<Map.Entry<String, PathItem>> pathOrder = Map.Entry.comparingByKey();
+        if (executionHistory != null) {
+            pathOrder = Map.Entry.<String, PathItem>comparingByKey(executionHistory.pathComparator()).thenComparing(pathOrder);
+        }
         return openAPI.getPaths().entrySet()
-                .stream().sorted(Map.Entry.comparingByKey())
+                .stream().sorted(pathOrder)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
+    private List<Fuzzer> sortFuzzersForPath(List<Fuzzer> fuzzers, String path) {
+        if (executionHistory == null) {
+            return fuzzers;
+        }
+        Comparator<String> fuzzerOrder = executionHistory.fuzzerComparator(path);
+        return fuzzers.stream().sorted(Comparator.comparing(Fuzzer::toString, fuzzerOrder)).toList();
+    }
+
     private void executeCustomFuzzer() throws IOException {
-        if (filterArguments.getSuppliedFuzzers().contains(FunctionalFuzzer.class.getSimpleName())) {
+        if (filterArguments.getSuppliedFuzzers().contains(FunctionalFuzzer.class.getSimpleName()) && filterArguments.getShardIndex() == 0) {
             functionalFuzzer.executeCustomFuzzerTests();
             functionalFuzzer.replaceRefData();
         }
@@ -299,6 +396,25 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         this.processLogLevelArgument();
         filesArguments.loadConfig();
         apiArguments.validateRequired(spec);
+        filterArguments.validateShards(spec);
+        this.initRandom();
+        this.loadPreviousFingerprints();
+        this.loadExecutionHistory();
+    }
+
+    private void loadExecutionHistory() throws IOException {
+        executionHistory = null;
+        if (filterArguments.getPrioritizeFrom() != null) {
+            executionHistory = ExecutionHistory.load(filterArguments.getPrioritizeFrom());
+            logger.config("Prioritizing paths and fuzzers using the results of {} paths from {}", executionHistory.size(), filterArguments.getPrioritizeFrom().getAbsolutePath());
+        }
+    }
+
+    private void initRandom() {
+        CatsRandom.initRandom(processingArguments.getSeed());
+        if (processingArguments.getSeed() != null) {
+            logger.config("Generating values using seed {}", processingArguments.getSeed());
+        }
     }
 
     private void processLogLevelArgument() {
@@ -306,11 +422,17 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     }
 
     public void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
-        /* WE NEED TO ITERATE THROUGH EACH HTTP OPERATION CORRESPONDING TO THE CURRENT PATH ENTRY*/
+        this.startPath(pathItemEntry);
+        this.fuzzPath(pathItemEntry, fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI));
+    }
+
+    private void startPath(Map.Entry<String, PathItem> pathItemEntry) {
         logger.noFormat(" ");
         logger.start("Start fuzzing path {}", pathItemEntry.getKey());
-        List<FuzzingData> fuzzingDataList = fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
+    }
 
+    private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, List<FuzzingData> fuzzingDataList) {
+        /* WE NEED TO ITERATE THROUGH EACH HTTP OPERATION CORRESPONDING TO THE CURRENT PATH ENTRY*/
         if (fuzzingDataList.isEmpty()) {
             logger.warning("There was a problem fuzzing path {}. You might want to enable debug mode for more details. Additionally, you can log a GitHub issue at: https://github.com/Endava/cats/issues.", pathItemEntry.getKey());
             return;
@@ -318,6 +440,7 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
         List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered = fuzzingDataList.stream()
                 .filter(fuzzingData -> filterArguments.getHttpMethods().contains(fuzzingData.getMethod()))
+                .filter(fuzzingData -> this.isOperationToFuzz(fuzzingData.getMethod().name(), pathItemEntry.getKey()))
                 .toList();
         Set<HttpMethod> excludedHttpMethods = fuzzingDataList.stream()
                 .map(FuzzingData::getMethod)
@@ -336,8 +459,10 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     private void runFuzzers(Map.Entry<String, PathItem> pathItemEntry, List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, List<Fuzzer> allFuzzersSorted, List<String> configuredFuzzers) {
         /*We only run the fuzzers supplied and exclude those that do not apply for certain HTTP methods*/
-        for (Fuzzer fuzzer : allFuzzersSorted) {
-            if (configuredFuzzers.contains(fuzzer.toString())) {
+        for (Fuzzer fuzzer : this.sortFuzzersForPath(allFuzzersSorted, pathItemEntry.getKey())) {
+            if (!filterArguments.isAssignedToCurrentShard(pathItemEntry.getKey(), fuzzer.toString())) {
+                logger.debug("Skipping fuzzer {} for path {} as it is assigned to another shard", fuzzer, pathItemEntry.getKey());
+            } else if (configuredFuzzers.contains(fuzzer.toString())) {
                 CatsUtil.filterAndPrintNotMatching(fuzzingDataListWithHttpMethodsFiltered, data -> !fuzzer.skipForHttpMethods().contains(data.getMethod()),
                                 logger, "HTTP method {} is not supported by {}", t -> t.getMethod().toString(), fuzzer.toString())
                         .forEach(data -> {
@@ -0,0 +1,116 @@
+package com.endava.cats.command;
+
+import com.endava.cats.json.JsonUtils;
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.VersionProvider;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import picocli.CommandLine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Combines the report folders of multiple CATS runs, typically the shards of a sharded run, into a single report.
+ */
+@CommandLine.Command(
+        name = "merge",
+        mixinStandardHelpOptions = true,
+        usageHelpAutoWidth = true,
+        exitCodeOnInvalidInput = 191,
+        exitCodeOnExecutionException = MergeCommand.EXIT_CODE_ON_MERGE_FAILURE,
+        description = "Merge the reports of multiple CATS runs, for example the shards of a run executed with --shardCount, into a single report",
+        versionProvider = VersionProvider.class)
+@Dependent
+public class MergeCommand implements Runnable, CommandLine.IExitCodeGenerator {
+    static final int EXIT_CODE_ON_MERGE_FAILURE = 192;
+    private static final Pattern TEST_CASE_FILE = Pattern.compile("Test(\\d+)\\.json");
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(MergeCommand.class);
+    private final TestCaseListener testCaseListener;
+
+    @CommandLine.Parameters(
+            description = "The report folders to merge", arity = "1..")
+    List<File> reportFolders;
+
+    @CommandLine.Option(names = {"-o", "--output"},
+            description = "The output folder of the merged report. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    String outputReportFolder = "cats-report";
+
+    @CommandLine.Spec
+    CommandLine.Model.CommandSpec spec;
+
+    private int exitCode;
+
+    @Inject
+    public MergeCommand(TestCaseListener testCaseListener) {
+        this.testCaseListener = testCaseListener;
+    }
+
+    @Override
+    public void run() {
+        this.checkReportFoldersExist();
+        try {
+            this.checkOutputIsNotAnInput();
+            testCaseListener.initReportingPath(outputReportFolder);
+            for (File reportFolder : reportFolders) {
+                this.mergeReportFolder(reportFolder.toPath());
+            }
+            testCaseListener.endSession();
+        } catch (IOException e) {
+            logger.error("Something went wrong while merging reports: {}", e.getMessage());
+            logger.debug("Stacktrace", e);
+            exitCode = EXIT_CODE_ON_MERGE_FAILURE;
+        }
+    }
+
+    private void checkReportFoldersExist() {
+        reportFolders.stream()
+                .filter(folder -> !folder.isDirectory())
+                .findFirst()
+                .ifPresent(folder -> {
+                    throw new CommandLine.ParameterException(spec.commandLine(), "Report folder %s does not exist or is not a directory".formatted(folder));
+                });
+    }
+
+    private void checkOutputIsNotAnInput() throws IOException {
+        Path output = Path.of(outputReportFolder).toAbsolutePath().normalize();
+        if (reportFolders.stream().anyMatch(folder -> folder.toPath().toAbsolutePath().normalize().equals(output))) {
+            throw new IOException("the output folder %s must be different from the merged report folders".formatted(output));
+        }
+    }
+
+    private void mergeReportFolder(Path reportFolder) throws IOException {
+        List<Path> testCaseFiles;
+        try (Stream<Path> files = Files.list(reportFolder)) {
+            testCaseFiles = files
+                    .filter(file -> TEST_CASE_FILE.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingLong(MergeCommand::testNumber))
+                    .toList();
+        }
+        logger.start("Merging {} test cases from {}", testCaseFiles.size(), reportFolder);
+
+        for (Path testCaseFile : testCaseFiles) {
+            CatsTestCase testCase = JsonUtils.GSON.fromJson(Files.readString(testCaseFile), CatsTestCase.class);
+            testCaseListener.addMergedTestCase(testCase);
+        }
+    }
+
+    private static long testNumber(Path testCaseFile) {
+        var matcher = TEST_CASE_FILE.matcher(testCaseFile.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
@@ -6,25 +6,26 @@ import io.swagger.v3.oas.models.media.Schema;
 import lombok.Getter;
 
 import jakarta.inject.Singleton;
-import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Holds global variables which should not be recomputed for each path.
+ * Collections are thread safe as they are also populated while building the fuzzing data of upcoming paths in the background.
  */
 @Singleton
 @Getter
 public class CatsGlobalContext {
-    private final Map<String, Schema> schemaMap = new HashMap<>();
-    private final Map<String, Example> exampleMap = new HashMap<>();
-    private final Map<String, Schema> requestDataTypes = new HashMap<>();
-    private final List<String> additionalProperties = new ArrayList<>();
-    private final List<Discriminator> discriminators = new ArrayList<>();
-    private final Map<String, Deque<String>> postSuccessfulResponses = new HashMap<>();
+    private final Map<String, Schema> schemaMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Example> exampleMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Schema> requestDataTypes = Collections.synchronizedMap(new HashMap<>());
+    private final List<String> additionalProperties = new CopyOnWriteArrayList<>();
+    private final List<Discriminator> discriminators = new CopyOnWriteArrayList<>();
+    private final PostResponsesStore postSuccessfulResponses = new PostResponsesStore();
     private final Set<String> successfulDeletes = new HashSet<>();
 }
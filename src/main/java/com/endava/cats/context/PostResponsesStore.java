@@ -0,0 +1,157 @@
+package com.endava.cats.context;
+
+import com.endava.cats.json.JsonUtils;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Stores successful POST responses for each path so that they can be used to resolve the path parameters of the corresponding DELETE requests.
+ * Responses are parsed only once, when stored, and indexed by their top level primitive fields.
+ * Values longer than {@value #MAX_INDEXED_VALUE_LENGTH} characters, such as descriptions or encoded content, cannot be path parameters, so they are not kept.
+ * Field names are normalized by lower-casing them and removing delimiters, so {@code petId}, {@code pet_id} and {@code PET-ID} are all indexed as {@code petid}.
+ * Only the most recent {@code maxPerPath} responses are kept for each path and, when a {@code timeToLiveInSeconds} is set,
+ * responses older than it are evicted.
+ */
+public class PostResponsesStore {
+    private static final Pattern WORDS_SEPARATOR = Pattern.compile("[_\\-]|(?<!(^|[A-Z]))(?=[A-Z])|(?<!^)(?=[A-Z][a-z])");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]");
+
+    public static final int DEFAULT_MAX_PER_PATH = 20;
+    static final int MAX_INDEXED_VALUE_LENGTH = 256;
+
+    private final Map<String, Deque<StoredResponse>> responses = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private volatile int maxPerPath = DEFAULT_MAX_PER_PATH;
+    private volatile long timeToLiveInMs;
+
+    public PostResponsesStore() {
+        this(System::currentTimeMillis);
+    }
+
+    PostResponsesStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Sets the limits used when storing responses.
+     *
+     * @param maxPerPath          the maximum number of responses kept for each path; the oldest ones are evicted first
+     * @param timeToLiveInSeconds the age after which responses are evicted; 0 or negative means they never expire
+     */
+    public void configure(int maxPerPath, long timeToLiveInSeconds) {
+        this.maxPerPath = Math.max(1, maxPerPath);
+        this.timeToLiveInMs = Math.max(0, timeToLiveInSeconds) * 1000;
+    }
+
+    /**
+     * Parses and stores the given POST response body for the given path.
+     *
+     * @param path         the POST path
+     * @param responseBody the response body
+     */
+    public void add(String path, String responseBody) {
+        Deque<StoredResponse> pathResponses = responses.computeIfAbsent(path, key -> new ConcurrentLinkedDeque<>());
+        pathResponses.add(new StoredResponse(indexFields(responseBody), clock.getAsLong()));
+        while (pathResponses.size() > maxPerPath) {
+            pathResponses.poll();
+        }
+        this.evictExpired(pathResponses);
+    }
+
+    /**
+     * Gets the oldest stored response for the given path.
+     *
+     * @param path the POST path
+     * @return the identifying fields of the oldest response, indexed by their normalized name
+     */
+    public Optional<Map<String, String>> peek(String path) {
+        return Optional.ofNullable(responses.get(path))
+                .map(this::evictExpired)
+                .map(Deque::peek)
+                .map(StoredResponse::fields);
+    }
+
+    /**
+     * Removes the oldest stored response for the given path, usually after a successful DELETE.
+     *
+     * @param path the POST path
+     */
+    public void removeOldest(String path) {
+        Optional.ofNullable(responses.get(path)).ifPresent(Deque::poll);
+    }
+
+    public int size(String path) {
+        return Optional.ofNullable(responses.get(path)).map(this::evictExpired).map(Deque::size).orElse(0);
+    }
+
+    public void clear() {
+        responses.clear();
+    }
+
+    /**
+     * Searches the given indexed response for a field matching the given path parameter.
+     * Longer names are tried first: for {@code petId} a {@code petId} field is preferred over an {@code id} field.
+     *
+     * @param indexedResponse a response as returned by {@link #peek(String)}
+     * @param pathParam       the name of the DELETE path parameter
+     * @return the value of the first matching field
+     */
+    public static Optional<String> findValue(Map<String, String> indexedResponse, String pathParam) {
+        String[] words = WORDS_SEPARATOR.split(pathParam);
+        for (int i = 0; i < words.length; i++) {
+            String value = indexedResponse.get(normalize(String.join("", Arrays.copyOfRange(words, i, words.length))));
+            if (value != null) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Deque<StoredResponse> evictExpired(Deque<StoredResponse> pathResponses) {
+        if (timeToLiveInMs > 0) {
+            long oldestAllowed = clock.getAsLong() - timeToLiveInMs;
+            StoredResponse oldest;
+            while ((oldest = pathResponses.peek()) != null && oldest.storedAt() < oldestAllowed) {
+                pathResponses.remove(oldest);
+            }
+        }
+        return pathResponses;
+    }
+
+    static String normalize(String fieldName) {
+        return NON_ALPHANUMERIC.matcher(fieldName.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    private static Map<String, String> indexFields(String responseBody) {
+        try {
+            JsonElement jsonElement = JsonUtils.parseAsJsonElement(StringUtils.defaultString(responseBody));
+            if (!jsonElement.isJsonObject()) {
+                return Collections.emptyMap();
+            }
+            Map<String, String> indexedFields = new HashMap<>();
+            jsonElement.getAsJsonObject().entrySet().stream()
+                    .filter(entry -> entry.getValue().isJsonPrimitive())
+                    .filter(entry -> entry.getValue().getAsString().length() <= MAX_INDEXED_VALUE_LENGTH)
+                    .forEach(entry -> indexedFields.putIfAbsent(normalize(entry.getKey()), entry.getValue().getAsString()));
+            return Map.copyOf(indexedFields);
+        } catch (JsonParseException | IllegalStateException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    private record StoredResponse(Map<String, String> fields, long storedAt) {
+    }
+}
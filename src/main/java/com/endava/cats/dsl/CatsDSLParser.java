@@ -35,6 +35,20 @@ public class CatsDSLParser {
                 .parse(sanitize(valueFromFile), context);
     }
 
+    /**
+     * Checks if the given expression always evaluates to the same result, no matter the request, response or CATS variables.
+     * Expressions handled by a dedicated parser or referencing variables, which start with {@code $}, are considered context dependent.
+     *
+     * @param valueFromFile the expression retrieved from the CATS files
+     * @return true if the expression can be evaluated once and its result reused, false otherwise
+     */
+    public static boolean isContextIndependent(String valueFromFile) {
+        if (valueFromFile.contains("$") || PARSERS.keySet().stream().anyMatch(valueFromFile::startsWith)) {
+            return false;
+        }
+        return SpringELParser.isContextIndependent(sanitize(valueFromFile));
+    }
+
     /**
      * Transforms various ways of describing the expressions like: ${request.value} which is equivalent to request.value
      * or request#value which is equivalent to request.value.
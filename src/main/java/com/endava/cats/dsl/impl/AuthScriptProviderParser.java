@@ -8,51 +8,151 @@ import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import java.io.BufferedReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
+/**
+ * Runs the {@code --authRefreshScript} in order to get credentials.
+ * The script runs on the calling thread only the first time, when there are no credentials yet.
+ * If {@code --authRefreshInterval} is supplied, credentials are then renewed in the background slightly before the interval elapses,
+ * so requests always get the current credentials without waiting for the script.
+ * Failed refreshes are retried with an exponential backoff, while the last good credentials keep being served.
+ */
 public class AuthScriptProviderParser implements Parser {
+    private static final long RETRY_BASE_DELAY_IN_MS = 1000;
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AuthScriptProviderParser.class);
-    private long t0 = System.currentTimeMillis();
-    private String existingValue;
+    private volatile String existingValue;
+    private volatile String script;
+    private volatile int authRefreshInterval;
+    private final UnaryOperator<String> scriptRunner;
+    private final Supplier<ScheduledExecutorService> refresherFactory;
+    private int generation;
+    private ScheduledExecutorService refresher;
 
+    public AuthScriptProviderParser() {
+        this.scriptRunner = this::runScript;
+        this.refresherFactory = () -> Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cats-auth-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a parser which runs scripts and schedules refreshes using the given components.
+     *
+     * @param scriptRunner runs the given script and returns its output; throws {@code CatsException} on failure
+     * @param refresher    the executor used to schedule refreshes
+     */
+    AuthScriptProviderParser(UnaryOperator<String> scriptRunner, ScheduledExecutorService refresher) {
+        this.scriptRunner = scriptRunner;
+        this.refresherFactory = () -> refresher;
+    }
 
     @Override
     public String parse(String expression, Map<String, String> context) {
-        String script = context.get(Parser.AUTH_SCRIPT);
-        int authRefreshInterval = Integer.parseInt(context.getOrDefault(Parser.AUTH_REFRESH, "0"));
-
-        if (authRefreshInterval > 0 && refreshIntervalElapsed(authRefreshInterval)) {
-            logger.debug("Refresh interval passed.");
-            t0 = System.currentTimeMillis();
-            existingValue = runScript(script);
+        String currentValue = existingValue;
+        if (currentValue == null || !Objects.equals(script, context.get(Parser.AUTH_SCRIPT))
+                || authRefreshInterval != Integer.parseInt(context.getOrDefault(Parser.AUTH_REFRESH, "0"))) {
+            return this.initialize(context);
         }
+        return currentValue;
+    }
+
+    private synchronized String initialize(Map<String, String> context) {
+        String newScript = context.get(Parser.AUTH_SCRIPT);
+        int newAuthRefreshInterval = Integer.parseInt(context.getOrDefault(Parser.AUTH_REFRESH, "0"));
+
+        if (existingValue == null || !Objects.equals(script, newScript) || authRefreshInterval != newAuthRefreshInterval) {
+            generation++;
+            existingValue = scriptRunner.apply(newScript);
+            script = newScript;
+            authRefreshInterval = newAuthRefreshInterval;
 
-        if (existingValue == null) {
-            existingValue = runScript(script);
+            if (authRefreshInterval > 0) {
+                this.scheduleRefresh(generation, this.refreshDelayInMs(), 0);
+            }
         }
         return existingValue;
     }
 
+    private synchronized void scheduleRefresh(int forGeneration, long delayInMs, int failedAttempts) {
+        if (forGeneration != generation) {
+            return;
+        }
+        if (refresher == null) {
+            refresher = refresherFactory.get();
+        }
+        refresher.schedule(() -> this.refresh(forGeneration, failedAttempts), delayInMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh(int forGeneration, int failedAttempts) {
+        logger.debug("Refresh interval passed.");
+        try {
+            String newValue = scriptRunner.apply(script);
+            synchronized (this) {
+                if (forGeneration == generation) {
+                    existingValue = newValue;
+                }
+            }
+            this.scheduleRefresh(forGeneration, this.refreshDelayInMs(), 0);
+        } catch (CatsException e) {
+            long retryDelayInMs = Math.min(RETRY_BASE_DELAY_IN_MS << Math.min(failedAttempts, 10), this.refreshDelayInMs());
+            logger.warning("Unable to refresh credentials: {}. Retrying in {} ms, using the existing credentials until then", e.getMessage(), retryDelayInMs);
+            this.scheduleRefresh(forGeneration, retryDelayInMs, failedAttempts + 1);
+        }
+    }
+
+    /**
+     * Stops refreshing credentials. Existing credentials are discarded, so the script runs again on the next call.
+     */
+    public synchronized void shutdown() {
+        generation++;
+        existingValue = null;
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * Credentials are renewed at 90% of the refresh interval so that requests never get credentials which are about to expire.
+     */
+    private long refreshDelayInMs() {
+        return authRefreshInterval * 900L;
+    }
+
     private String runScript(String script) {
         logger.note("Running script {} to get credentials", script);
         try {
             ProcessBuilder processBuilder = new ProcessBuilder(script);
             processBuilder.redirectErrorStream(true);
             StringBuilder builder = new StringBuilder();
+            Process process = processBuilder.start();
 
-            try (BufferedReader reader = processBuilder.start().inputReader(StandardCharsets.UTF_8)) {
+            try (BufferedReader reader = process.inputReader(StandardCharsets.UTF_8)) {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     builder.append(line);
                 }
             }
 
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                throw new CatsException("Script " + script + " exited with code " + exitCode, null);
+            }
             return builder.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CatsException(e);
+        } catch (CatsException e) {
+            throw e;
         } catch (Exception e) {
             throw new CatsException(e);
         }
     }
-
-    private boolean refreshIntervalElapsed(int authRefreshInterval) {
-        return (System.currentTimeMillis() - t0) / 1000 >= authRefreshInterval;
-    }
 }
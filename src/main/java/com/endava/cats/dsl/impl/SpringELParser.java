@@ -1,10 +1,23 @@
 package com.endava.cats.dsl.impl;
 
 import com.endava.cats.dsl.api.Parser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.context.expression.MapAccessor;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.BeanReference;
+import org.springframework.expression.spel.ast.ConstructorReference;
+import org.springframework.expression.spel.ast.FunctionReference;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.TypeReference;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.json.JsonPropertyAccessor;
@@ -17,10 +30,15 @@ import java.util.Map;
  * The format of these expressions usually start with {@code T{....}}.
  * Expressions can also have access to the JSON elements supplied in request,
  * responses as well as global variables from the {@code FunctionalFuzzer}.
+ * <p>
+ * Parsed expressions are cached, as the same expressions from the CATS files are evaluated for every request.
+ * Expressions can also be built from runtime values, so the cache is bounded and the least recently used ones are evicted.
  */
 public class SpringELParser implements Parser {
+    static final int MAX_COMPILED_EXPRESSIONS = 1000;
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(this.getClass());
     private final SpelExpressionParser spelExpressionParser;
+    private final Cache<String, Expression> compiledExpressions = CacheBuilder.newBuilder().maximumSize(MAX_COMPILED_EXPRESSIONS).build();
 
     public SpringELParser() {
         spelExpressionParser = new SpelExpressionParser();
@@ -38,13 +56,43 @@ public class SpringELParser implements Parser {
         return result == null ? expression : String.valueOf(result);
     }
 
+    /**
+     * Checks if the given expression evaluates to the same result regardless of the context.
+     * This is the case for expressions which are not valid Spring EL, as they are returned as they are, and for expressions
+     * made only of literals and operators. Any property, method, type or variable reference might depend on the context.
+     *
+     * @param expression the expression to check
+     * @return true if the result of the expression does not depend on the context, false otherwise
+     */
+    public static boolean isContextIndependent(String expression) {
+        try {
+            return !referencesContext(((SpelExpression) new SpelExpressionParser().parseExpression(expression)).getAST());
+        } catch (ParseException | IllegalStateException e) {
+            return true;
+        }
+    }
+
+    private static boolean referencesContext(SpelNode node) {
+        if (node instanceof PropertyOrFieldReference || node instanceof MethodReference || node instanceof TypeReference
+                || node instanceof VariableReference || node instanceof FunctionReference || node instanceof BeanReference
+                || node instanceof ConstructorReference) {
+            return true;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (referencesContext(node.getChild(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Nullable
     private Object parseContext(String expression, Object context) {
         try {
             StandardEvaluationContext evaluationContext = new StandardEvaluationContext(context);
             evaluationContext.setPropertyAccessors(List.of(new MapAccessor(), new JsonPropertyAccessor()));
 
-            return spelExpressionParser.parseExpression(expression).getValue(evaluationContext);
+            return compiledExpressions.get(expression, () -> spelExpressionParser.parseExpression(expression)).getValue(evaluationContext);
         } catch (Exception e) {
             log.trace("Something went wrong while parsing: {}", e.getMessage());
             return expression;
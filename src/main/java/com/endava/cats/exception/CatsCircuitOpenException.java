@@ -0,0 +1,11 @@
+package com.endava.cats.exception;
+
+/**
+ * Thrown when a request is not sent because the circuit breaker of the target path is open.
+ */
+public class CatsCircuitOpenException extends RuntimeException {
+
+    public CatsCircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,189 @@
+package com.endava.cats.factory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Selects combinations of branches from a number of groups, each group having {@code sizes[i]} branches.
+ * A combination is an array holding the index of the selected branch for each group.
+ */
+final class Combinations {
+    private static final int CANDIDATES = 20;
+
+    private Combinations() {
+        //ntd
+    }
+
+    /**
+     * Returns the number of combinations in the cartesian product, saturated at {@code Long.MAX_VALUE}.
+     *
+     * @param sizes the number of branches of each group
+     * @return the number of all possible combinations
+     */
+    static long cartesianSize(int[] sizes) {
+        long result = 1;
+        for (int size : sizes) {
+            if (size == 0) {
+                return 0;
+            }
+            result = result > Long.MAX_VALUE / size ? Long.MAX_VALUE : result * size;
+        }
+        return result;
+    }
+
+    /**
+     * Returns all the possible combinations. The branch of the first group changes the fastest.
+     *
+     * @param sizes the number of branches of each group
+     * @return the cartesian product of all groups
+     */
+    static List<int[]> cartesian(int[] sizes) {
+        List<int[]> result = new ArrayList<>();
+        if (cartesianSize(sizes) == 0) {
+            return result;
+        }
+        int[] current = new int[sizes.length];
+        while (true) {
+            result.add(current.clone());
+            int group = 0;
+            while (group < sizes.length && ++current[group] == sizes[group]) {
+                current[group] = 0;
+                group++;
+            }
+            if (group == sizes.length) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Returns a set of combinations in which every pair of branches from any two groups appears at least once.
+     * The first combinations select each branch of every group at least once, so that when the result is trimmed
+     * to at least the size of the largest group, all branches are still covered.
+     * Combinations are selected greedily, which gives results close to the optimal size and is deterministic.
+     *
+     * @param sizes the number of branches of each group
+     * @return an all-pairs covering of the groups
+     */
+    static List<int[]> pairwise(int[] sizes) {
+        if (sizes.length < 2 || cartesianSize(sizes) == 0) {
+            return cartesian(sizes);
+        }
+        Set<Pair> uncovered = new LinkedHashSet<>();
+        for (int first = 0; first < sizes.length; first++) {
+            for (int second = first + 1; second < sizes.length; second++) {
+                for (int firstBranch = 0; firstBranch < sizes[first]; firstBranch++) {
+                    for (int secondBranch = 0; secondBranch < sizes[second]; secondBranch++) {
+                        uncovered.add(new Pair(first, firstBranch, second, secondBranch));
+                    }
+                }
+            }
+        }
+
+        List<int[]> result = new ArrayList<>();
+        int maxSize = Arrays.stream(sizes).max().orElse(0);
+        for (int i = 0; i < maxSize; i++) {
+            int[] combination = new int[sizes.length];
+            for (int group = 0; group < sizes.length; group++) {
+                combination[group] = i % sizes[group];
+            }
+            addCombination(result, uncovered, combination);
+        }
+
+        while (!uncovered.isEmpty()) {
+            int[] bestCombination = null;
+            int bestCoverage = -1;
+            Iterator<Pair> candidates = uncovered.iterator();
+            for (int i = 0; i < CANDIDATES && candidates.hasNext(); i++) {
+                int[] combination = buildCombination(sizes, candidates.next(), uncovered);
+                int coverage = coverage(combination, uncovered);
+                if (coverage > bestCoverage) {
+                    bestCoverage = coverage;
+                    bestCombination = combination;
+                }
+            }
+            addCombination(result, uncovered, bestCombination);
+        }
+        return result;
+    }
+
+    /**
+     * Builds a combination starting from the given pair. The remaining groups are filled one at a time, always choosing
+     * the group and branch covering the most uncovered pairs with the groups already filled. Ties are broken by
+     * the total number of uncovered pairs of the branch, so that branches still needing coverage are preferred.
+     */
+    private static int[] buildCombination(int[] sizes, Pair startingPair, Set<Pair> uncovered) {
+        int[] combination = new int[sizes.length];
+        Arrays.fill(combination, -1);
+        combination[startingPair.firstGroup()] = startingPair.firstBranch();
+        combination[startingPair.secondGroup()] = startingPair.secondBranch();
+
+        for (int filled = 2; filled < sizes.length; filled++) {
+            int bestGroup = -1;
+            int bestBranch = -1;
+            long bestScore = -1;
+            for (int group = 0; group < sizes.length; group++) {
+                for (int branch = 0; combination[group] == -1 && branch < sizes[group]; branch++) {
+                    long score = (long) newPairs(group, branch, combination, uncovered) * uncovered.size() + pendingPairs(group, branch, uncovered);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        bestGroup = group;
+                        bestBranch = branch;
+                    }
+                }
+            }
+            combination[bestGroup] = bestBranch;
+        }
+        return combination;
+    }
+
+    private static int newPairs(int group, int branch, int[] combination, Set<Pair> uncovered) {
+        int result = 0;
+        for (int other = 0; other < combination.length; other++) {
+            if (other != group && combination[other] != -1 && uncovered.contains(Pair.of(group, branch, other, combination[other]))) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private static int pendingPairs(int group, int branch, Set<Pair> uncovered) {
+        return (int) uncovered.stream().filter(pair -> pair.contains(group, branch)).count();
+    }
+
+    private static int coverage(int[] combination, Set<Pair> uncovered) {
+        return (int) uncovered.stream().filter(pair -> pair.isCoveredBy(combination)).count();
+    }
+
+    private static void addCombination(List<int[]> result, Set<Pair> uncovered, int[] combination) {
+        boolean coversNewPairs = false;
+        Iterator<Pair> iterator = uncovered.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isCoveredBy(combination)) {
+                iterator.remove();
+                coversNewPairs = true;
+            }
+        }
+        if (coversNewPairs) {
+            result.add(combination);
+        }
+    }
+
+    private record Pair(int firstGroup, int firstBranch, int secondGroup, int secondBranch) {
+        static Pair of(int group, int branch, int otherGroup, int otherBranch) {
+            return group < otherGroup ? new Pair(group, branch, otherGroup, otherBranch) : new Pair(otherGroup, otherBranch, group, branch);
+        }
+
+        boolean contains(int group, int branch) {
+            return (firstGroup == group && firstBranch == branch) || (secondGroup == group && secondBranch == branch);
+        }
+
+        boolean isCoveredBy(int[] combination) {
+            return combination[firstGroup] == firstBranch && combination[secondGroup] == secondBranch;
+        }
+    }
+}
@@ -71,15 +71,30 @@ public class FuzzingDataFactory {
         this.validDataFormat = validDataFormat;
     }
 
+    CatsGlobalContext getGlobalContext() {
+        return globalContext;
+    }
+
+    /**
+     * Creates a factory with the same arguments as this one, which builds the FuzzingData against the given context.
+     *
+     * @param catsGlobalContext the context to read and update schemas from
+     * @return a new factory using the given context
+     */
+    FuzzingDataFactory withGlobalContext(CatsGlobalContext catsGlobalContext) {
+        return new FuzzingDataFactory(filesArguments, processingArguments, catsGlobalContext, validDataFormat);
+    }
+
     /**
      * Creates a list of FuzzingData objects that will be used to fuzz the provided PathItems. The reason there is more than one FuzzingData object is due
      * to cases when the contract uses OneOf or AnyOf composite objects which causes the payload to have more than one variation.
+     * Calls are serialized as payload generation updates the schemas shared between paths in place.
      *
      * @param path the path from the contract
      * @param item the PathItem containing the details about the interaction with the path
      * @return a list of FuzzingData items representing a template that will be used to apply the Fuzzers on
      */
-    public List<FuzzingData> fromPathItem(String path, PathItem item, OpenAPI openAPI) {
+    public synchronized List<FuzzingData> fromPathItem(String path, PathItem item, OpenAPI openAPI) {
         List<FuzzingData> fuzzingDataList = new ArrayList<>();
         if (item.getPost() != null) {
             logger.debug("Identified POST method for path {}", path);
@@ -341,7 +356,7 @@ public class FuzzingDataFactory {
 
     private List<String> getRequestPayloadsSamples(MediaType mediaType, String reqSchemaName) {
         OpenAPIModelGenerator generator = new OpenAPIModelGenerator(globalContext, validDataFormat, processingArguments.isUseExamples(), processingArguments.getSelfReferenceDepth());
-        List<String> result = this.generateSample(reqSchemaName, generator);
+        List<String> result = this.generateSample(reqSchemaName, generator, true);
 
         if (mediaType != null && mediaType.getSchema() instanceof ArraySchema) {
             /*when dealing with ArraySchemas we make sure we have 2 elements in the array*/
@@ -350,7 +365,16 @@ public class FuzzingDataFactory {
         return result;
     }
 
-    private List<String> generateSample(String reqSchemaName, OpenAPIModelGenerator generator) {
+    /**
+     * Generates the payloads for the given schema, one for each ONE_OF/ANY_OF combination.
+     *
+     * @param reqSchemaName         the name of the schema
+     * @param generator             the generator used to create the initial payload
+     * @param boundedCombinations   whether to apply the {@code --oneOfAnyOfStrategy} and {@code --maxOneOfAnyOfCombinations} limits;
+     *                              response samples are never bounded as they are used to validate responses
+     * @return a list of payloads
+     */
+    private List<String> generateSample(String reqSchemaName, OpenAPIModelGenerator generator, boolean boundedCombinations) {
         Map<String, String> examples = generator.generate(reqSchemaName);
         if (examples.isEmpty()) {
             throw new IllegalArgumentException("Scheme is not declared: " + reqSchemaName);
@@ -358,25 +382,26 @@ public class FuzzingDataFactory {
         String payloadSample = examples.get("example");
 
         payloadSample = this.squashAllOfElements(payloadSample);
-        return this.getPayloadCombinationsBasedOnOneOfAndAnyOf(payloadSample);
+        return this.getPayloadCombinationsBasedOnOneOfAndAnyOf(payloadSample, boundedCombinations);
     }
 
     /**
      * When we deal with AnyOf or OneOf data types, we need to create multiple payloads based on the number of sub-types defined within the contract. This method will return all these combinations
      * based on the keywords 'ANY_OF' and 'ONE_OF' generated by the OpenAPIModelGenerator.
      *
-     * @param initialPayload initial Payload including ONE_OF and ANY_OF information
+     * @param initialPayload      initial Payload including ONE_OF and ANY_OF information
+     * @param boundedCombinations whether to limit the number of combinations
      * @return a list of Payload associated with each ANY_OF, ONE_OF combination
      */
-    private List<String> getPayloadCombinationsBasedOnOneOfAndAnyOf(String initialPayload) {
+    private List<String> getPayloadCombinationsBasedOnOneOfAndAnyOf(String initialPayload, boolean boundedCombinations) {
         List<String> result = new ArrayList<>();
         JsonElement jsonElement = JsonParser.parseString(initialPayload);
 
         if (jsonElement.isJsonArray()) {
-            result = this.addNewCombination(jsonElement.getAsJsonArray().get(0));
+            result = this.addNewCombination(jsonElement.getAsJsonArray().get(0), boundedCombinations);
         }
         if (jsonElement.isJsonObject()) {
-            result = this.addNewCombination(jsonElement);
+            result = this.addNewCombination(jsonElement, boundedCombinations);
         }
         if (result.isEmpty()) {
             result.add(initialPayload);
@@ -386,28 +411,57 @@ public class FuzzingDataFactory {
     }
 
     /**
-     * This gets all possible ONE_OF and ANY_OF combinations, including combinations between multiple ONE_OF/ANY_OF.
+     * This gets the ONE_OF and ANY_OF combinations, including combinations between multiple ONE_OF/ANY_OF.
+     * By default, all possible combinations are returned. When bounded, the combinations are selected based on
+     * {@code --oneOfAnyOfStrategy} and {@code --maxOneOfAnyOfCombinations}.
+     * Each selected combination is built from the initial payload by setting the chosen branch of each group in turn,
+     * so the payload is parsed once per group for every combination.
      *
-     * @param jsonElement the initial JSON payload
-     * @return a list with all possible ONE_OF and ANY_OF combinations based on the initial JSON payload
+     * @param jsonElement         the initial JSON payload
+     * @param boundedCombinations whether to limit the number of combinations
+     * @return a list with the ONE_OF and ANY_OF combinations based on the initial JSON payload
      */
-    private List<String> addNewCombination(JsonElement jsonElement) {
-        List<String> result = new ArrayList<>();
-        result.add(jsonElement.toString());
+    private List<String> addNewCombination(JsonElement jsonElement, boolean boundedCombinations) {
         Map<String, Map<String, JsonElement>> anyOfOrOneOfElements = this.getAnyOrOneOffElements("$", jsonElement);
-        anyOfOrOneOfElements = this.joinCommonOneAndAnyOfs(anyOfOrOneOfElements);
+        List<Map.Entry<String, Map<String, JsonElement>>> groups = List.copyOf(this.joinCommonOneAndAnyOfs(anyOfOrOneOfElements).entrySet());
+        List<List<Map.Entry<String, JsonElement>>> branches = groups.stream().map(group -> List.copyOf(group.getValue().entrySet())).toList();
+        int[] sizes = branches.stream().mapToInt(List::size).toArray();
 
-        anyOfOrOneOfElements.forEach((pathKey, anyOfOrOneOf) -> {
-            List<String> interimCombinationList = new ArrayList<>(result);
-            result.clear();
-            anyOfOrOneOf.forEach((key, value) ->
-                    interimCombinationList.forEach(payload ->
-                            result.add(JsonUtils.createValidOneOfAnyOfNode(payload, pathKey, key, value.toString(), anyOfOrOneOf.keySet()))));
-        });
+        List<String> result = new ArrayList<>();
+        for (int[] combination : this.selectCombinations(sizes, boundedCombinations)) {
+            String payload = jsonElement.toString();
+            for (int i = 0; i < combination.length; i++) {
+                Map.Entry<String, JsonElement> branch = branches.get(i).get(combination[i]);
+                payload = JsonUtils.createValidOneOfAnyOfNode(payload, groups.get(i).getKey(), branch.getKey(), branch.getValue().toString(), groups.get(i).getValue().keySet());
+            }
+            result.add(payload);
+        }
 
         return result;
     }
 
+    /**
+     * The cartesian product is used unless {@code PAIRWISE} is requested or it exceeds {@code --maxOneOfAnyOfCombinations}.
+     * In these cases an all-pairs selection is used instead, trimmed to the maximum number of combinations.
+     * As the all-pairs selection starts with combinations covering each branch, all branches are kept as long as the
+     * maximum is not lower than the number of branches of the largest ONE_OF/ANY_OF.
+     */
+    private List<int[]> selectCombinations(int[] sizes, boolean boundedCombinations) {
+        long allCombinations = Combinations.cartesianSize(sizes);
+        int maxCombinations = processingArguments.getMaxOneOfAnyOfCombinations();
+        boolean overLimit = maxCombinations > 0 && allCombinations > maxCombinations;
+
+        if (!boundedCombinations || (processingArguments.getOneOfAnyOfStrategy() != ProcessingArguments.CombinationStrategy.PAIRWISE && !overLimit)) {
+            return Combinations.cartesian(sizes);
+        }
+        List<int[]> combinations = Combinations.pairwise(sizes);
+        if (maxCombinations > 0 && combinations.size() > maxCombinations) {
+            combinations = combinations.subList(0, maxCombinations);
+        }
+        logger.debug("Selected {} ONE_OF/ANY_OF combinations out of {} possible combinations", combinations.size(), allCombinations);
+        return combinations;
+    }
+
     private Map<String, Map<String, JsonElement>> joinCommonOneAndAnyOfs(Map<String, Map<String, JsonElement>> startingOneAnyOfs) {
         Set<String> keySet = startingOneAnyOfs.entrySet()
                 .stream()
@@ -580,7 +634,7 @@ public class FuzzingDataFactory {
             String responseSchemaRef = this.extractResponseSchemaRef(operation, responseCode);
             if (responseSchemaRef != null) {
                 String respSchemaName = this.getSchemaName(responseSchemaRef);
-                List<String> samples = this.generateSample(respSchemaName, generator);
+                List<String> samples = this.generateSample(respSchemaName, generator, false);
 
                 responses.put(responseCode, samples);
             } else {
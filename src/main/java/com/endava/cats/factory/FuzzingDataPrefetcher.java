@@ -0,0 +1,225 @@
+package com.endava.cats.factory;
+
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.model.FuzzingData;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the {@code FuzzingData} of the paths to be fuzzed, in order, ahead of time.
+ * While the current path is fuzzed, the upcoming ones are built on a single background thread. At most {@code maxPreparedPaths}
+ * paths are prepared ahead, so memory stays bounded no matter how many paths the contract has.
+ * When {@code maxPreparedPaths} is 0 or negative, each path is built on the calling thread when requested.
+ * <p>
+ * Building FuzzingData updates the schemas in place. In order to keep the schemas seen by the fuzzers of the current path unchanged,
+ * background builds run against a private copy of the global context. Once a path is built, the following one gets a deep copy
+ * of the resulting schemas, so each path keeps its own schemas. When a path is handed out, its schemas are published to the
+ * global context, so that fuzzers see the same state as when paths are built sequentially. Copying the schemas has a cost
+ * proportional to the number of schemas in the contract, paid once per path.
+ */
+public class FuzzingDataPrefetcher implements AutoCloseable {
+    private static final String OPENAPI_MODELS_PACKAGE = "io.swagger.v3.oas.models";
+    private final FuzzingDataFactory fuzzingDataFactory;
+    private final OpenAPI openAPI;
+    private final Iterator<Map.Entry<String, PathItem>> upcomingPaths;
+    private final Deque<Future<PreparedPath>> preparedPaths = new ArrayDeque<>();
+    private final ExecutorService executor;
+    private final int maxPreparedPaths;
+    private final CatsGlobalContext globalContext;
+    private CatsGlobalContext stagingContext;
+
+    /**
+     * Creates a new prefetcher for the given paths.
+     *
+     * @param fuzzingDataFactory the factory used to build the FuzzingData
+     * @param openAPI            the OpenAPI object parsed from the contract
+     * @param paths              the paths to be fuzzed, in the order they will be requested
+     * @param maxPreparedPaths   the maximum number of paths built ahead; 0 or negative to build on the calling thread
+     */
+    public FuzzingDataPrefetcher(FuzzingDataFactory fuzzingDataFactory, OpenAPI openAPI, List<Map.Entry<String, PathItem>> paths, int maxPreparedPaths) {
+        this.fuzzingDataFactory = fuzzingDataFactory;
+        this.openAPI = openAPI;
+        this.upcomingPaths = paths.iterator();
+        this.maxPreparedPaths = Math.max(0, maxPreparedPaths);
+        this.globalContext = fuzzingDataFactory.getGlobalContext();
+        this.executor = maxPreparedPaths > 0 ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cats-fuzzing-data-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.stagingContext = executor != null ? copyOf(globalContext) : null;
+    }
+
+    /**
+     * Returns the FuzzingData of the next path and schedules the building of the following ones.
+     *
+     * @return the FuzzingData of the next path or an empty list if there are no more paths
+     */
+    public List<FuzzingData> next() {
+        this.prepareUpcomingPaths();
+        Future<PreparedPath> nextPath = preparedPaths.poll();
+        if (nextPath == null) {
+            return Collections.emptyList();
+        }
+        if (executor != null) {
+            this.prepareUpcomingPaths();
+        }
+        try {
+            PreparedPath preparedPath = nextPath.get();
+            if (preparedPath.context() != null) {
+                publish(preparedPath.context(), globalContext);
+            }
+            return preparedPath.fuzzingData();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void prepareUpcomingPaths() {
+        while (upcomingPaths.hasNext() && preparedPaths.size() < Math.max(1, maxPreparedPaths)) {
+            Map.Entry<String, PathItem> path = upcomingPaths.next();
+            if (executor == null) {
+                preparedPaths.add(CompletableFuture.completedFuture(new PreparedPath(fuzzingDataFactory.fromPathItem(path.getKey(), path.getValue(), openAPI), null)));
+            } else {
+                preparedPaths.add(executor.submit(() -> this.buildInStagingContext(path)));
+            }
+        }
+    }
+
+    /**
+     * Runs on the background thread only, which is the only one accessing the staging context.
+     */
+    private PreparedPath buildInStagingContext(Map.Entry<String, PathItem> path) {
+        CatsGlobalContext buildContext = stagingContext;
+        List<FuzzingData> fuzzingData = fuzzingDataFactory.withGlobalContext(buildContext).fromPathItem(path.getKey(), path.getValue(), openAPI);
+        stagingContext = copyOf(buildContext);
+        return new PreparedPath(fuzzingData, buildContext);
+    }
+
+    /**
+     * Copies the schemas of the given context, keeping the classes, the example values and the references between schemas as they are,
+     * so that building against the copy gives the same results as building against the original.
+     */
+    static CatsGlobalContext copyOf(CatsGlobalContext source) {
+        Map<Object, Object> copies = new IdentityHashMap<>();
+        CatsGlobalContext copy = new CatsGlobalContext();
+        copy.getSchemaMap().putAll(copyAll(source.getSchemaMap(), copies));
+        copy.getRequestDataTypes().putAll(copyAll(source.getRequestDataTypes(), copies));
+        copy.getExampleMap().putAll(source.getExampleMap());
+        copy.getAdditionalProperties().addAll(source.getAdditionalProperties());
+        source.getDiscriminators().forEach(discriminator -> copy.getDiscriminators().add((Discriminator) deepCopy(discriminator, copies)));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Schema> copyAll(Map<String, Schema> schemas, Map<Object, Object> copies) {
+        synchronized (schemas) {
+            return (Map<String, Schema>) deepCopy(schemas, copies);
+        }
+    }
+
+    /**
+     * Copies the OpenAPI model objects and the collections holding them. Any other value is immutable or never updated in place, so it's shared.
+     */
+    private static Object deepCopy(Object value, Map<Object, Object> copies) {
+        if (value == null || value instanceof Enum || !(value instanceof Map || value instanceof Collection || value.getClass().getPackageName().startsWith(OPENAPI_MODELS_PACKAGE))) {
+            return value;
+        }
+        Object existing = copies.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> mapCopy = new LinkedHashMap<>();
+            copies.put(value, mapCopy);
+            map.forEach((key, entryValue) -> mapCopy.put(key, deepCopy(entryValue, copies)));
+            return mapCopy;
+        }
+        if (value instanceof Collection<?> collection) {
+            Collection<Object> collectionCopy = value instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+            copies.put(value, collectionCopy);
+            collection.forEach(element -> collectionCopy.add(deepCopy(element, copies)));
+            return collectionCopy;
+        }
+        try {
+            Object modelCopy = value.getClass().getDeclaredConstructor().newInstance();
+            copies.put(value, modelCopy);
+            for (Field field : FieldUtils.getAllFieldsList(value.getClass())) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    FieldUtils.writeField(field, modelCopy, deepCopy(FieldUtils.readField(field, value, true), copies), true);
+                }
+            }
+            return modelCopy;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to copy " + value.getClass().getName(), e);
+        }
+    }
+
+    private static void publish(CatsGlobalContext source, CatsGlobalContext target) {
+        replace(target.getSchemaMap(), source.getSchemaMap());
+        replace(target.getRequestDataTypes(), source.getRequestDataTypes());
+        target.getAdditionalProperties().clear();
+        target.getAdditionalProperties().addAll(source.getAdditionalProperties());
+        target.getDiscriminators().clear();
+        target.getDiscriminators().addAll(source.getDiscriminators());
+    }
+
+    private static void replace(Map<String, Schema> target, Map<String, Schema> source) {
+        synchronized (target) {
+            target.clear();
+            target.putAll(source);
+        }
+    }
+
+    /**
+     * Cancels the paths not yet started and waits for the one being built, so that no build overlaps with later callers of the factory.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            preparedPaths.forEach(preparedPath -> preparedPath.cancel(false));
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The FuzzingData of a path together with the context it was built against, or {@code null} when built directly on the global context.
+     */
+    private record PreparedPath(List<FuzzingData> fuzzingData, CatsGlobalContext context) {
+    }
+}
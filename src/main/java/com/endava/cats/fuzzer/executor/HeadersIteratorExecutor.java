@@ -2,7 +2,6 @@ package com.endava.cats.fuzzer.executor;
 
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.MatchArguments;
-import com.endava.cats.generator.Cloner;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.io.ServiceData;
@@ -12,6 +11,10 @@ import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.report.TestCaseListener;
 
 import jakarta.inject.Singleton;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,45 +35,38 @@ public class HeadersIteratorExecutor {
     }
 
     public void execute(HeadersIteratorExecutorContext context) {
-        Set<CatsHeader> headersWithoutAuth = this.getHeadersWithoutAuthHeaders(context);
+        Set<CatsHeader> headersWithoutAuth = Collections.unmodifiableSet(this.getHeadersWithoutAuthHeaders(context));
         if (headersWithoutAuth.isEmpty()) {
             context.getLogger().skip("No headers to fuzz");
         }
+        Set<String> requiredHeaders = headersWithoutAuth.stream().filter(CatsHeader::isRequired).map(CatsHeader::getName).collect(Collectors.toSet());
 
-        Set<CatsHeader> clonedHeaders = Cloner.cloneMe(headersWithoutAuth);
-
-        for (CatsHeader header : clonedHeaders) {
+        for (CatsHeader header : headersWithoutAuth) {
             if (ignoreArguments.getSkipHeaders().stream().noneMatch(ignoredHeader -> ignoredHeader.equalsIgnoreCase(header.getName()))) {
+                boolean isRequiredHeaderFuzzed = requiredHeaders.contains(header.getName());
                 for (FuzzingStrategy fuzzingStrategy : context.getFuzzValueProducer().get()) {
                     context.getLogger().debug("Fuzzing strategy {} for header {}", fuzzingStrategy.name(), header);
-                    String previousHeaderValue = header.getValue();
-                    header.withValue(String.valueOf(fuzzingStrategy.process(previousHeaderValue)));
-                    try {
-                        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> {
-                            boolean isRequiredHeaderFuzzed = clonedHeaders.stream().filter(CatsHeader::isRequired).toList().contains(header);
-                            ResponseCodeFamily expectedResponseCode = this.getExpectedResultCode(isRequiredHeaderFuzzed, context);
-
-                            testCaseListener.addScenario(context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", header.getName(), fuzzingStrategy);
-                            testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]", expectedResponseCode != null ? expectedResponseCode.asString() : "a valid response");
-
-                            ServiceData serviceData = ServiceData.builder()
-                                    .relativePath(context.getFuzzingData().getPath())
-                                    .contractPath(context.getFuzzingData().getContractPath())
-                                    .headers(clonedHeaders)
-                                    .payload(context.getFuzzingData().getPayload())
-                                    .fuzzedHeader(header.getName())
-                                    .queryParams(context.getFuzzingData().getQueryParams())
-                                    .httpMethod(context.getFuzzingData().getMethod())
-                                    .contentType(context.getFuzzingData().getFirstRequestContentType())
-                                    .build();
-
-                            CatsResponse response = serviceCaller.call(serviceData);
-                            this.reportResult(context, expectedResponseCode, response);
-                        });
-                    } finally {
-                        /* we reset back the current header */
-                        header.withValue(previousHeaderValue);
-                    }
+                    CatsHeader fuzzedHeader = header.copyWithValue(String.valueOf(fuzzingStrategy.process(header.getValue())));
+                    testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> {
+                        ResponseCodeFamily expectedResponseCode = this.getExpectedResultCode(isRequiredHeaderFuzzed, context);
+
+                        testCaseListener.addScenario(context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", header.getName(), fuzzingStrategy);
+                        testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]", expectedResponseCode != null ? expectedResponseCode.asString() : "a valid response");
+
+                        ServiceData serviceData = ServiceData.builder()
+                                .relativePath(context.getFuzzingData().getPath())
+                                .contractPath(context.getFuzzingData().getContractPath())
+                                .headers(new HeadersWithOverlay(headersWithoutAuth, fuzzedHeader))
+                                .payload(context.getFuzzingData().getPayload())
+                                .fuzzedHeader(header.getName())
+                                .queryParams(context.getFuzzingData().getQueryParams())
+                                .httpMethod(context.getFuzzingData().getMethod())
+                                .contentType(context.getFuzzingData().getFirstRequestContentType())
+                                .build();
+
+                        CatsResponse response = serviceCaller.call(serviceData);
+                        this.reportResult(context, expectedResponseCode, response);
+                    });
                 }
             }
         }
@@ -100,4 +96,30 @@ public class HeadersIteratorExecutor {
         }
         return context.getFuzzingData().getHeaders();
     }
+
+    /**
+     * Read-only view over the base headers where only the fuzzed header is replaced.
+     * This avoids copying all the headers for each fuzzed value.
+     */
+    private static final class HeadersWithOverlay extends AbstractCollection<CatsHeader> {
+        private final Collection<CatsHeader> baseHeaders;
+        private final CatsHeader fuzzedHeader;
+
+        HeadersWithOverlay(Collection<CatsHeader> baseHeaders, CatsHeader fuzzedHeader) {
+            this.baseHeaders = baseHeaders;
+            this.fuzzedHeader = fuzzedHeader;
+        }
+
+        @Override
+        public Iterator<CatsHeader> iterator() {
+            return baseHeaders.stream()
+                    .map(header -> header.equals(fuzzedHeader) ? fuzzedHeader : header)
+                    .iterator();
+        }
+
+        @Override
+        public int size() {
+            return baseHeaders.size();
+        }
+    }
 }
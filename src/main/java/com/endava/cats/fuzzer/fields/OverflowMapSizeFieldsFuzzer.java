@@ -6,6 +6,8 @@ import com.endava.cats.fuzzer.executor.FieldsIteratorExecutor;
 import com.endava.cats.fuzzer.fields.base.BaseReplaceFieldsFuzzer;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.FuzzingData;
+import com.google.common.base.Suppliers;
+import com.jayway.jsonpath.DocumentContext;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Singleton;
 
@@ -14,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 @FieldFuzzer
 @Singleton
@@ -27,10 +30,11 @@ public class OverflowMapSizeFieldsFuzzer extends BaseReplaceFieldsFuzzer {
 
     @Override
     public BaseReplaceFieldsFuzzer.BaseReplaceFieldsContext getContext(FuzzingData data) {
+        Supplier<DocumentContext> payloadDocument = Suppliers.memoize(() -> JsonUtils.parseAsDocument(data.getPayload()));
         BiFunction<Schema<?>, String, List<String>> fuzzValueProducer = (schema, field) -> {
-            Object allMapKeys = JsonUtils.getVariableFromJson(data.getPayload(), field + ".keys()");
+            Object allMapKeys = JsonUtils.getVariableFromJson(payloadDocument.get(), field + ".keys()");
             String firstKey = allMapKeys instanceof String s ? s : ((Set<String>) allMapKeys).iterator().next();
-            Object firstKeyValue = JsonUtils.getVariableFromJson(data.getPayload(), field + "." + firstKey);
+            Object firstKeyValue = JsonUtils.getVariableFromJson(payloadDocument.get(), field + "." + firstKey);
             Map<String, Object> finalResult = new HashMap<>();
             int arraySize = schema.getMaxProperties() != null ? schema.getMaxProperties() + 10 : processingArguments.getLargeStringsSize();
             for (int i = 0; i < arraySize; i++) {
@@ -44,7 +48,7 @@ public class OverflowMapSizeFieldsFuzzer extends BaseReplaceFieldsFuzzer {
                 .replaceWith("overflow dictionary/hashmap")
                 .skipMessage("Fuzzer only runs for dictionaries/hashmaps")
                 .fieldFilter(field -> data.getRequestPropertyTypes().get(field).getAdditionalProperties() != null
-                        && !JsonUtils.NOT_SET.equals(JsonUtils.getVariableFromJson(data.getPayload(), field)))
+                        && !JsonUtils.NOT_SET.equals(JsonUtils.getVariableFromJson(payloadDocument.get(), field)))
                 .fuzzValueProducer(fuzzValueProducer)
                 .build();
     }
@@ -13,6 +13,7 @@ import com.endava.cats.model.FuzzingData;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.ConsoleUtils;
+import com.jayway.jsonpath.DocumentContext;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 
@@ -99,15 +100,16 @@ public class RemoveFieldsFuzzer implements Fuzzer {
 
     private String getFuzzedJsonWithFieldsRemove(String payload, Set<String> fieldsToRemove) {
         String prefix = "";
+        DocumentContext jsonDocument = JsonUtils.parseAsDocument(payload);
 
-        if (JsonUtils.isJsonArray(payload)) {
+        if (JsonUtils.isJsonArray(jsonDocument)) {
             prefix = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY;
         }
         for (String field : fieldsToRemove) {
-            payload = JsonUtils.deleteNode(payload, prefix + field);
+            JsonUtils.deleteNodeFromDocument(jsonDocument, prefix + field);
         }
 
-        return payload;
+        return jsonDocument.jsonString();
     }
 
     @Override
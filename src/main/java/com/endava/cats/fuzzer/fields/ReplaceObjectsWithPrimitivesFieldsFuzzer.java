@@ -5,9 +5,12 @@ import com.endava.cats.fuzzer.executor.FieldsIteratorExecutor;
 import com.endava.cats.fuzzer.fields.base.BaseReplaceFieldsFuzzer;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.FuzzingData;
+import com.google.common.base.Suppliers;
+import com.jayway.jsonpath.DocumentContext;
 import jakarta.inject.Singleton;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @FieldFuzzer
 @Singleton
@@ -18,11 +21,12 @@ public class ReplaceObjectsWithPrimitivesFieldsFuzzer extends BaseReplaceFieldsF
 
     @Override
     public BaseReplaceFieldsFuzzer.BaseReplaceFieldsContext getContext(FuzzingData data) {
+        Supplier<DocumentContext> payloadDocument = Suppliers.memoize(() -> JsonUtils.parseAsDocument(data.getPayload()));
         return BaseReplaceFieldsFuzzer.BaseReplaceFieldsContext.builder()
                 .replaceWhat("non-primitive")
                 .replaceWith("primitive")
                 .skipMessage("Fuzzer only runs for objects")
-                .fieldFilter(field -> JsonUtils.isObject(data.getPayload(), field))
+                .fieldFilter(field -> JsonUtils.isObject(payloadDocument.get(), field))
                 .fuzzValueProducer((schema, field) -> List.of("cats_primitive_string"))
                 .build();
     }
@@ -5,9 +5,12 @@ import com.endava.cats.fuzzer.executor.FieldsIteratorExecutor;
 import com.endava.cats.fuzzer.fields.base.BaseReplaceFieldsFuzzer;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.FuzzingData;
+import com.google.common.base.Suppliers;
+import com.jayway.jsonpath.DocumentContext;
 import jakarta.inject.Singleton;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @FieldFuzzer
 @Singleton
@@ -18,11 +21,12 @@ public class ReplacePrimitivesWithObjectsFieldsFuzzer extends BaseReplaceFieldsF
 
     @Override
     public BaseReplaceFieldsContext getContext(FuzzingData data) {
+        Supplier<DocumentContext> payloadDocument = Suppliers.memoize(() -> JsonUtils.parseAsDocument(data.getPayload()));
         return BaseReplaceFieldsContext.builder()
                 .replaceWhat("primitive")
                 .replaceWith("object")
                 .skipMessage("Fuzzer only runs for primitives")
-                .fieldFilter(field -> JsonUtils.isPrimitive(data.getPayload(), field))
+                .fieldFilter(field -> JsonUtils.isPrimitive(payloadDocument.get(), field))
                 .fuzzValueProducer((schema, field) -> List.of("{\"catsKey1\":\"catsValue1\",\"catsKey2\":20}"))
                 .build();
     }
@@ -4,7 +4,7 @@ import com.endava.cats.annotations.HeaderFuzzer;
 import com.endava.cats.fuzzer.executor.SimpleExecutor;
 import com.endava.cats.fuzzer.headers.base.BaseRandomHeadersFuzzer;
 import com.endava.cats.report.TestCaseListener;
-import org.apache.commons.lang3.RandomStringUtils;
+import com.endava.cats.util.CatsRandom;
 
 import jakarta.inject.Singleton;
 import java.util.function.Function;
@@ -25,6 +25,6 @@ public class LargeNumberOfRandomAlphanumericHeadersFuzzer extends BaseRandomHead
 
     @Override
     protected Function<Integer, String> randomHeadersValueFunction() {
-        return RandomStringUtils::randomAlphanumeric;
+        return CatsRandom::randomAlphanumeric;
     }
 }
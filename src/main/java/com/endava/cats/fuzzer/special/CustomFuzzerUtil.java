@@ -10,12 +10,14 @@ import com.endava.cats.io.ServiceData;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CustomFuzzerExecution;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsDSLWords;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.WordUtils;
+import com.jayway.jsonpath.DocumentContext;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -27,10 +29,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -43,7 +47,9 @@ import static com.endava.cats.util.CatsDSLWords.*;
 public class CustomFuzzerUtil {
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(CustomFuzzerUtil.class);
     private final Map<String, String> variables = new HashMap<>();
-    private final Map<String, Map<String, Object>> pathsWithInputVariables = new HashMap<>();
+    private final ThreadLocal<Map<String, String>> chainVariables = new ThreadLocal<>();
+    private final Map<String, VerificationPlan> verificationPlans = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> pathsWithInputVariables = new ConcurrentHashMap<>();
     private final CatsUtil catsUtil;
     private final TestCaseListener testCaseListener;
     private final ServiceCaller serviceCaller;
@@ -113,17 +119,18 @@ public class CustomFuzzerUtil {
         /* we merge request variables at the end, because otherwise the resolved values will try to be searched in response and result in NOT_SET*/
         if (output != null) {
             Map<String, String> variablesFromYaml = this.parseYmlEntryIntoMap(String.valueOf(output));
-            this.variables.putAll(variablesFromYaml);
+            Map<String, String> currentVariables = this.currentVariables();
+            currentVariables.putAll(variablesFromYaml);
             Map<String, String> requestVariables = matchVariablesFromRequest(request);
-            this.variables.putAll(matchVariablesWithTheResponse(response, variablesFromYaml, Map.Entry::getValue));
-            this.variables.putAll(requestVariables);
+            currentVariables.putAll(matchVariablesWithTheResponse(response, variablesFromYaml, Map.Entry::getValue));
+            currentVariables.putAll(requestVariables);
 
-            log.note("The following OUTPUT variables were identified {}", variables);
+            log.note("The following OUTPUT variables were identified {}", currentVariables);
         }
     }
 
     private Map<String, String> matchVariablesFromRequest(String request) {
-        return variables.entrySet().stream()
+        return this.currentVariables().entrySet().stream()
                 .filter(entry -> entry.getValue().startsWith("$request"))
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
@@ -131,8 +138,9 @@ public class CustomFuzzerUtil {
     }
 
     private void checkVerifiesAndReport(FuzzingData data, String request, CatsResponse response, String verify, String expectedResponseCode) {
-        Map<String, String> verifies = this.parseYmlEntryIntoMap(verify);
-        Map<String, String> responseValues = this.matchVariablesWithTheResponse(response, verifies, Map.Entry::getKey);
+        VerificationPlan verificationPlan = verificationPlans.computeIfAbsent(verify, key -> VerificationPlan.compile(this.parseYmlEntryIntoMap(key)));
+        Map<String, String> verifies = verificationPlan.verifies();
+        Map<String, String> responseValues = verificationPlan.readFromResponse(response.getBody());
         log.debug("Parameters to verify: {}", verifies);
         log.debug("Parameters matched to response: {}", responseValues);
         if (responseValues.entrySet().stream().anyMatch(entry -> entry.getValue().equalsIgnoreCase(NOT_SET))) {
@@ -146,11 +154,11 @@ public class CustomFuzzerUtil {
 
             verifies.forEach((key, value) -> {
                 String valueToCheck = responseValues.get(key);
-                String parsedVerifyValue = this.getVerifyValue(request, response, value);
+                Pattern verifyPattern = verificationPlan.pattern(key, () -> this.getVerifyValue(request, response, value));
 
-                Matcher verifyMatcher = Pattern.compile(parsedVerifyValue).matcher(valueToCheck);
+                Matcher verifyMatcher = verifyPattern.matcher(valueToCheck);
                 if (!verifyMatcher.matches()) {
-                    errorMessages.append(String.format("Parameter [%s] with value [%s] not matching [%s]. ", key, valueToCheck, parsedVerifyValue));
+                    errorMessages.append(String.format("Parameter [%s] with value [%s] not matching [%s]. ", key, valueToCheck, verifyPattern.pattern()));
                 }
             });
 
@@ -170,7 +178,7 @@ public class CustomFuzzerUtil {
 
         /* It means that it's 'just' a CATS variable */
         if (verifyValue.startsWith("$")) {
-            return variables.get(verifyValue.substring(1));
+            return this.currentVariables().get(verifyValue.substring(1));
         }
         return verifyValue;
     }
@@ -197,11 +205,12 @@ public class CustomFuzzerUtil {
     }
 
     private Map<String, String> matchVariablesWithTheResponse(CatsResponse response, Map<String, String> variablesMap, Function<Map.Entry<String, String>, String> mappingFunction) {
+        Optional<DocumentContext> responseDocument = VerificationPlan.parseResponse(response.getBody());
         Map<String, String> result = new HashMap<>();
 
         result.putAll(variablesMap.entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey,
-                        entry -> String.valueOf(JsonUtils.getVariableFromJson(response.getBody(), mappingFunction.apply(entry))))
+                        entry -> String.valueOf(responseDocument.map(document -> JsonUtils.getVariableFromJson(document, mappingFunction.apply(entry))).orElse(NOT_SET)))
                 ));
 
         //we make sure that "checkBoolean" is not marked as NOT_SET and set to TRUE so that is matched against the computed expression
@@ -211,7 +220,6 @@ public class CustomFuzzerUtil {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-
     public String getTestScenario(String testName, Map<String, Object> currentPathValues) {
         String description = WordUtils.nullOrValueOf(currentPathValues.get(DESCRIPTION));
         if (StringUtils.isNotBlank(description)) {
@@ -321,7 +329,7 @@ public class CustomFuzzerUtil {
             for (Map.Entry<String, Object> entry : currentPathValues.entrySet()) {
                 String valueToReplaceWith = String.valueOf(entry.getValue());
                 if (this.isVariable(valueToReplaceWith)) {
-                    valueToReplaceWith = variables.getOrDefault(this.getVariableName(valueToReplaceWith), NOT_SET);
+                    valueToReplaceWith = this.currentVariables().getOrDefault(this.getVariableName(valueToReplaceWith), NOT_SET);
                 }
                 newPath = newPath.replace("{" + entry.getKey() + "}", valueToReplaceWith);
             }
@@ -336,7 +344,7 @@ public class CustomFuzzerUtil {
     private String replaceElementWithCustomValue(Map.Entry<String, Object> keyValue, String payload) {
         Map<String, String> contextForParser = new HashMap<>();
         contextForParser.put(Parser.REQUEST, payload);
-        contextForParser.putAll(variables);
+        contextForParser.putAll(this.currentVariables());
 
         Object toReplace = this.getPropertyValueToReplaceInBody(keyValue);
         if (toReplace instanceof String str) {
@@ -356,7 +364,7 @@ public class CustomFuzzerUtil {
         Object propertyValue = keyValue.getValue();
 
         if (this.isVariable(String.valueOf(propertyValue))) {
-            String variableValue = variables.get(this.getVariableName(String.valueOf(propertyValue)));
+            String variableValue = this.currentVariables().get(this.getVariableName(String.valueOf(propertyValue)));
 
             if (variableValue == null) {
                 log.error("Supplied variable was not found [{}]", propertyValue);
@@ -380,6 +388,77 @@ public class CustomFuzzerUtil {
         return variables;
     }
 
+    private Map<String, String> currentVariables() {
+        return Optional.ofNullable(chainVariables.get()).orElse(variables);
+    }
+
+    /**
+     * Runs the given test chain with its own set of OUTPUT variables, so that chains running concurrently do not see each other's variables.
+     * Once the chain finishes, its variables are merged into the global ones so that they are available when writing or replacing the refData file.
+     *
+     * @param chain the tests to run
+     */
+    public void executeInOwnVariablesScope(Runnable chain) {
+        Map<String, String> scope = new HashMap<>();
+        chainVariables.set(scope);
+        try {
+            chain.run();
+        } finally {
+            chainVariables.remove();
+            synchronized (variables) {
+                variables.putAll(scope);
+            }
+        }
+    }
+
+    /**
+     * Groups the given executions into chains of tests which depend on each other through OUTPUT variables.
+     * Two tests end up in the same chain when they produce the same variable or when one of them references,
+     * using {@code ${variable}} or {@code $variable}, a variable produced by the other.
+     * Chains keep the order of the given executions, both between them and within each chain.
+     *
+     * @param executions the executions in the order in which they would run sequentially
+     * @return a list of independent chains of executions
+     */
+    public List<List<CustomFuzzerExecution>> groupIntoIndependentChains(List<CustomFuzzerExecution> executions) {
+        int[] parents = new int[executions.size()];
+        Arrays.setAll(parents, i -> i);
+
+        Map<String, Integer> producers = new HashMap<>();
+        for (int i = 0; i < executions.size(); i++) {
+            Object output = ((Map<String, Object>) executions.get(i).getTestEntry()).get(OUTPUT);
+            for (String variable : this.parseYmlEntryIntoMap(output == null ? null : String.valueOf(output)).keySet()) {
+                Integer producer = producers.putIfAbsent(variable.trim(), i);
+                parents[findChain(parents, i)] = findChain(parents, producer == null ? i : producer);
+            }
+        }
+
+        for (int i = 0; i < executions.size(); i++) {
+            String consumedText = ((Map<String, Object>) executions.get(i).getTestEntry()).entrySet().stream()
+                    .filter(entry -> !OUTPUT.equals(entry.getKey()))
+                    .map(entry -> String.valueOf(entry.getValue()))
+                    .collect(Collectors.joining(" "));
+            for (Map.Entry<String, Integer> producer : producers.entrySet()) {
+                if (Pattern.compile("\\$\\{?" + Pattern.quote(producer.getKey()) + "(?!\\w)").matcher(consumedText).find()) {
+                    parents[findChain(parents, i)] = findChain(parents, producer.getValue());
+                }
+            }
+        }
+
+        Map<Integer, List<CustomFuzzerExecution>> chains = new LinkedHashMap<>();
+        for (int i = 0; i < executions.size(); i++) {
+            chains.computeIfAbsent(findChain(parents, i), key -> new ArrayList<>()).add(executions.get(i));
+        }
+        return List.copyOf(chains.values());
+    }
+
+    private static int findChain(int[] parents, int index) {
+        if (parents[index] != index) {
+            parents[index] = findChain(parents, parents[index]);
+        }
+        return parents[index];
+    }
+
     public void writeRefDataFileWithOutputVariables() throws IOException {
         Map<String, Map<String, Object>> possibleVariables = this.pathsWithInputVariables.entrySet().stream()
                 .filter(entry -> !RESERVED_WORDS.contains(entry.getKey()))
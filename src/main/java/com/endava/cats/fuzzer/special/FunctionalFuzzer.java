@@ -6,6 +6,7 @@ import com.endava.cats.fuzzer.fields.base.CustomFuzzerBase;
 import com.endava.cats.model.CustomFuzzerExecution;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.util.CatsDSLWords;
+import com.endava.cats.util.CatsRandom;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -23,6 +24,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 @Singleton
 @SpecialFuzzer
@@ -62,19 +69,70 @@ public class FunctionalFuzzer implements CustomFuzzerBase {
      * Before executing we make sure we sort the collection so that it appears in the same order as in the custom fuzzer file.
      * We decouple the execution of the custom fuzzer tests from their creation in order to execute them in the order defined in the customFuzzerFile,
      * rather than the order defined by the OpenAPI contract.
+     * When {@code --functionalFuzzerThreads} is greater than 1, tests are grouped into chains based on the {@code output} variables they share
+     * and independent chains run concurrently, each with its own variables and random generator. Tests within a chain still run in order.
      */
     public void executeCustomFuzzerTests() {
         logger.debug("Executing {} functional tests.", executions.size());
-        MDC.put("fuzzer", "FF");
-        MDC.put("fuzzerKey", "FunctionalFuzzer");
-
         Collections.sort(executions);
 
-        for (Map.Entry<String, Map<String, Object>> entry : filesArguments.getCustomFuzzerDetails().entrySet()) {
-            executions.stream().filter(customFuzzerExecution -> customFuzzerExecution.getFuzzingData().getPath().equalsIgnoreCase(entry.getKey()))
-                    .forEach(customFuzzerExecution -> customFuzzerUtil.executeTestCases(customFuzzerExecution.getFuzzingData(), customFuzzerExecution.getTestId(),
-                            customFuzzerExecution.getTestEntry(), this));
+        List<CustomFuzzerExecution> orderedExecutions = filesArguments.getCustomFuzzerDetails().keySet().stream()
+                .flatMap(path -> executions.stream().filter(customFuzzerExecution -> customFuzzerExecution.getFuzzingData().getPath().equalsIgnoreCase(path)))
+                .toList();
+
+        int threads = filesArguments.getFunctionalFuzzerThreads();
+        if (threads <= 1) {
+            this.executeChain(orderedExecutions);
+            return;
+        }
+
+        List<List<CustomFuzzerExecution>> chains = customFuzzerUtil.groupIntoIndependentChains(orderedExecutions);
+        logger.debug("Running {} independent functional test chains using {} threads.", chains.size(), threads);
+        Map<String, String> mdcContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Map.of());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, chains.size())));
+        try {
+            List<Future<Object>> results = executor.invokeAll(IntStream.range(0, chains.size())
+                    .mapToObj(chainIndex -> Executors.callable(() -> {
+                        MDC.setContextMap(mdcContext);
+                        CatsRandom.runInWorkUnit(chainIndex, () -> customFuzzerUtil.executeInOwnVariablesScope(() -> this.executeChain(chains.get(chainIndex))));
+                    }))
+                    .toList());
+            this.rethrowFirstFailure(results);
+        } catch (InterruptedException e) {
+            logger.warning("Functional tests execution was interrupted!");
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Chains run independently, so a failing chain does not stop the others. Once all of them finish, the failures are logged
+     * and the first one is rethrown, the same way it would have propagated when running sequentially.
+     */
+    private void rethrowFirstFailure(List<Future<Object>> results) throws InterruptedException {
+        RuntimeException firstFailure = null;
+        for (Future<Object> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                logger.error("Functional test chain failed: {}", e.getCause().getMessage());
+                logger.debug("Stacktrace", e.getCause());
+                if (firstFailure == null) {
+                    firstFailure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(e.getCause());
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
         }
+    }
+
+    private void executeChain(List<CustomFuzzerExecution> chain) {
+        MDC.put("fuzzer", "FF");
+        MDC.put("fuzzerKey", "FunctionalFuzzer");
+        chain.forEach(customFuzzerExecution -> customFuzzerUtil.executeTestCases(customFuzzerExecution.getFuzzingData(), customFuzzerExecution.getTestId(),
+                customFuzzerExecution.getTestEntry(), this));
         MDC.put("fuzzer", CatsUtil.FUZZER_KEY_DEFAULT);
         MDC.put("fuzzerKey", CatsUtil.FUZZER_KEY_DEFAULT);
     }
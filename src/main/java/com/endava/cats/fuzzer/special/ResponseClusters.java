@@ -0,0 +1,76 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.model.CatsResponse;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Groups similar responses into clusters. Two responses are in the same cluster when they have the same response code
+ * and the same body once the fuzzed value, UUIDs, dates, hex tokens, numbers and whitespace differences are masked.
+ * Clusters are keyed by the SHA-256 of the normalized body, so bodies are not kept in memory and distinct bodies never collide.
+ */
+class ResponseClusters {
+    private static final Pattern UUIDS = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern DATES = Pattern.compile("\\d{4}-\\d{2}-\\d{2}([T ]\\d{2}:\\d{2}(:\\d{2}(\\.\\d+)?)?(Z|[+-]\\d{2}:?\\d{2})?)?");
+    private static final Pattern HEX_TOKENS = Pattern.compile("\\b(0x)?(?=[0-9a-fA-F]*\\d)[0-9a-fA-F]{8,}\\b");
+    private static final Pattern NUMBERS = Pattern.compile("\\d+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+    private static final String FUZZED_VALUE_PLACEHOLDER = "{fuzzed}";
+
+    private final Map<Cluster, AtomicInteger> clusters = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the given response to its cluster.
+     *
+     * @param response  the response received from the service
+     * @param fuzzValue the value sent in the request, which is ignored if echoed back in the response body
+     * @return the position of the response within its cluster, starting from 1
+     */
+    int add(CatsResponse response, String fuzzValue) {
+        return clusters.computeIfAbsent(clusterOf(response, fuzzValue), key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    int size() {
+        return clusters.size();
+    }
+
+    void clear() {
+        clusters.clear();
+    }
+
+    static Cluster clusterOf(CatsResponse response, String fuzzValue) {
+        String normalizedBody = normalizeBody(response.getBody(), fuzzValue);
+        return new Cluster(response.getResponseCode(), sha256(normalizedBody));
+    }
+
+    static String normalizeBody(String body, String fuzzValue) {
+        String normalizedBody = StringUtils.defaultString(body);
+        if (StringUtils.isNotEmpty(fuzzValue)) {
+            normalizedBody = normalizedBody.replace(fuzzValue, FUZZED_VALUE_PLACEHOLDER);
+        }
+        normalizedBody = UUIDS.matcher(normalizedBody).replaceAll("{uuid}");
+        normalizedBody = DATES.matcher(normalizedBody).replaceAll("{date}");
+        normalizedBody = HEX_TOKENS.matcher(normalizedBody).replaceAll("{hex}");
+        normalizedBody = NUMBERS.matcher(normalizedBody).replaceAll("0");
+        return WHITESPACES.matcher(normalizedBody).replaceAll(" ").trim();
+    }
+
+    private static String sha256(String normalizedBody) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(normalizedBody.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Cluster(int responseCode, String bodyDigest) {
+    }
+}
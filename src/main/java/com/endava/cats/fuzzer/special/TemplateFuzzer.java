@@ -15,6 +15,7 @@ import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.KeyValuePair;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
+import com.endava.cats.util.CatsRandom;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
 import com.jayway.jsonpath.JsonPathException;
@@ -22,17 +23,28 @@ import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 
 import jakarta.inject.Singleton;
+import org.slf4j.MDC;
+
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Singleton
 @SpecialFuzzer
@@ -43,6 +55,7 @@ public class TemplateFuzzer implements Fuzzer {
     private final CatsUtil catsUtil;
     private final UserArguments userArguments;
     private final MatchArguments matchArguments;
+    private final ResponseClusters responseClusters = new ResponseClusters();
 
     public TemplateFuzzer(ServiceCaller sc, TestCaseListener lr, CatsUtil cu, UserArguments ua, MatchArguments ma) {
         this.serviceCaller = sc;
@@ -54,32 +67,99 @@ public class TemplateFuzzer implements Fuzzer {
 
     @Override
     public void fuzz(FuzzingData data) {
+        responseClusters.clear();
         for (String targetField : Optional.ofNullable(data.getTargetFields()).orElse(Collections.emptySet())) {
             int payloadSize = this.getPayloadSize(data, targetField);
 
             if (payloadSize == 0) {
                 logger.skip("Field {} was NOT found in request payload, HTTP headers or path/query parameters!", targetField);
             } else {
-                List<String> payloads = this.getAllPayloads(payloadSize);
-                logger.info("Running {} payloads for field [{}]", payloads.size(), targetField);
-
-                for (String payload : payloads) {
-                    List<KeyValuePair<String, Object>> replacedHeaders = this.replaceHeaders(data, payload, targetField);
-                    String replacedPayload = this.replacePayload(data, payload, targetField);
-                    String replacedPath = this.replacePath(data, payload, targetField);
-                    CatsRequest catsRequest = CatsRequest.builder()
-                            .payload(replacedPayload)
-                            .headers(replacedHeaders)
-                            .httpMethod(data.getMethod().name())
-                            .url(replacedPath)
-                            .build();
-
-                    testCaseListener.createAndExecuteTest(logger, this, () -> process(data, catsRequest, targetField, payload));
-                }
+                this.runAllPayloads(data, targetField, payloadSize);
+            }
+        }
+    }
+
+    private void runAllPayloads(FuzzingData data, String targetField, int payloadSize) {
+        if (userArguments.getWords() == null) {
+            List<String> payloads = this.getBuiltInPayloads(payloadSize);
+            logger.info("Running {} payloads for field [{}]", payloads.size(), targetField);
+            this.runPayloads(data, targetField, payloads.stream());
+        } else {
+            logger.info("Running payloads from {} for field [{}]", userArguments.getWords().getName(), targetField);
+            try (Stream<String> payloads = Files.lines(Path.of(userArguments.getWords().getAbsolutePath()), StandardCharsets.UTF_8)) {
+                this.runPayloads(data, targetField, payloads);
+            } catch (IOException | UncheckedIOException e) {
+                logger.debug("Something went wrong while fuzzing!", e);
+                logger.error("Something went wrong while reading user supplied dictionary: {}. The file might not exist or is not reachable. Error message: {}",
+                        userArguments.getWords().getAbsolutePath(), e.getMessage());
             }
         }
     }
 
+    /**
+     * Runs a test for each payload. When {@code --templateFuzzerThreads} is greater than 1, tests are sent in parallel,
+     * each payload using its own random generator derived from its index.
+     * Payloads are consumed from the stream only as workers become available, so large dictionaries are never fully loaded in memory.
+     */
+    private void runPayloads(FuzzingData data, String targetField, Stream<String> payloads) {
+        int threads = userArguments.getTemplateFuzzerThreads();
+        if (threads <= 1) {
+            payloads.takeWhile(payload -> this.isNotStopped()).forEach(payload -> this.executeTest(data, targetField, payload));
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Semaphore availableWorkers = new Semaphore(threads * 2);
+        Map<String, String> mdcContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Map.of());
+        AtomicLong payloadIndex = new AtomicLong();
+        try {
+            payloads.takeWhile(payload -> this.isNotStopped()).forEach(payload -> {
+                availableWorkers.acquireUninterruptibly();
+                long workUnit = payloadIndex.getAndIncrement();
+                executor.execute(() -> {
+                    try {
+                        MDC.setContextMap(mdcContext);
+                        CatsRandom.runInWorkUnit(workUnit, () -> this.executeTest(data, targetField, payload));
+                    } finally {
+                        availableWorkers.release();
+                    }
+                });
+            });
+        } finally {
+            executor.shutdown();
+            this.awaitTermination(executor);
+        }
+    }
+
+    private boolean isNotStopped() {
+        return !matchArguments.isStopConditionReached(responseClusters.size());
+    }
+
+    private void awaitTermination(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.debug("Waiting for in-flight template requests to complete...");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void executeTest(FuzzingData data, String targetField, String payload) {
+        List<KeyValuePair<String, Object>> replacedHeaders = this.replaceHeaders(data, payload, targetField);
+        String replacedPayload = this.replacePayload(data, payload, targetField);
+        String replacedPath = this.replacePath(data, payload, targetField);
+        CatsRequest catsRequest = CatsRequest.builder()
+                .payload(replacedPayload)
+                .headers(replacedHeaders)
+                .httpMethod(data.getMethod().name())
+                .url(replacedPath)
+                .build();
+
+        testCaseListener.createAndExecuteTest(logger, this, () -> process(data, catsRequest, targetField, payload));
+    }
+
     String replacePath(FuzzingData data, String withData, String targetField) {
         String finalPath = data.getPath();
         try {
@@ -114,25 +194,14 @@ public class TemplateFuzzer implements Fuzzer {
         return queryPair;
     }
 
-    private List<String> getAllPayloads(int payloadSize) {
-        try {
-            if (userArguments.getWords() == null) {
-                List<String> payloads = UnicodeGenerator.getAllPayloadsOfSize(payloadSize);
-                payloads.add(UnicodeGenerator.getBadPayload());
-                payloads.add(UnicodeGenerator.getZalgoText());
-                payloads.add(StringGenerator.generateLargeString(20000));
-                payloads.add(null);
-                payloads.add("");
-                return payloads;
-            } else {
-                return Files.readAllLines(Path.of(userArguments.getWords().getAbsolutePath()), StandardCharsets.UTF_8);
-            }
-        } catch (IOException e) {
-            logger.debug("Something went wrong while fuzzing!", e);
-            logger.error("Something went wrong while reading user supplied dictionary: {}. The file might not exist or is not reachable. Error message: {}",
-                    userArguments.getWords().getAbsolutePath(), e.getMessage());
-        }
-        return Collections.emptyList();
+    private List<String> getBuiltInPayloads(int payloadSize) {
+        List<String> payloads = new ArrayList<>(UnicodeGenerator.getAllPayloadsOfSize(payloadSize));
+        payloads.add(UnicodeGenerator.getBadPayload());
+        payloads.add(UnicodeGenerator.getZalgoText());
+        payloads.add(StringGenerator.generateLargeString(20000));
+        payloads.add(null);
+        payloads.add("");
+        return payloads;
     }
 
     private List<KeyValuePair<String, Object>> replaceHeaders(FuzzingData data, Object withData, String targetField) {
@@ -178,8 +247,7 @@ public class TemplateFuzzer implements Fuzzer {
         try {
             CatsResponse catsResponse = serviceCaller.callService(catsRequest, Set.of(targetField));
             if (matchArguments.isMatchResponse(catsResponse) || !matchArguments.isAnyMatchArgumentSupplied()) {
-                testCaseListener.addResponse(catsResponse);
-                testCaseListener.reportResultError(logger, data, "Check response details", "Service call completed. Please check response details.");
+                this.reportIfNotSimilarToReportedResponses(data, catsResponse, fuzzValued);
             } else {
                 testCaseListener.skipTest(logger, "Skipping test as response does not match given matchers!");
             }
@@ -189,6 +257,19 @@ public class TemplateFuzzer implements Fuzzer {
         }
     }
 
+    private void reportIfNotSimilarToReportedResponses(FuzzingData data, CatsResponse catsResponse, String fuzzValued) {
+        int positionInCluster = responseClusters.add(catsResponse, fuzzValued);
+        if (matchArguments.isReportedClusterExample(positionInCluster)) {
+            testCaseListener.addResponse(catsResponse);
+            testCaseListener.reportResultError(logger, data, "Check response details", "Service call completed. Please check response details.");
+        } else {
+            testCaseListener.skipTest(logger, "Skipping test as response is similar to already reported responses!");
+        }
+        if (positionInCluster == 1 && matchArguments.isStopConditionReached(responseClusters.size())) {
+            logger.info("Found {} distinct clusters of matched responses. Stopping fuzzing...", responseClusters.size());
+        }
+    }
+
     @Override
     public String description() {
         return "fuzz user supplied request templates with a set of pre-defined special unicode characters or user supplied dictionaries";
@@ -0,0 +1,94 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.dsl.CatsDSLParser;
+import com.endava.cats.json.JsonUtils;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.JsonPathException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static com.endava.cats.json.JsonUtils.NOT_SET;
+import static com.endava.cats.util.CatsDSLWords.CHECK;
+import static com.endava.cats.util.CatsDSLWords.TRUE;
+
+/**
+ * Compiled form of a {@code verify} block from the functional fuzzer file.
+ * The response JSON paths are compiled once and all of them are read from a single parsed response.
+ * Expected values which do not depend on the request, response or CATS variables are evaluated and compiled into patterns once,
+ * while the other ones are evaluated and compiled for each response.
+ *
+ * @param verifies       the verify entries as parsed from the file
+ * @param responsePaths  the compiled JSON path for each verify entry; entries which are not valid JSON paths are missing
+ * @param staticPatterns the compiled patterns of the verify entries whose expected value does not depend on the context
+ */
+record VerificationPlan(Map<String, String> verifies, Map<String, JsonPath> responsePaths, Map<String, Pattern> staticPatterns) {
+
+    static VerificationPlan compile(Map<String, String> verifies) {
+        Map<String, JsonPath> responsePaths = new HashMap<>();
+        Map<String, Pattern> staticPatterns = new HashMap<>();
+        for (Map.Entry<String, String> verify : verifies.entrySet()) {
+            try {
+                responsePaths.put(verify.getKey(), JsonPath.compile(JsonUtils.sanitizeToJsonPath(verify.getKey())));
+            } catch (InvalidPathException | IllegalArgumentException e) {
+                //this will be reported as NOT_SET when matched against the response
+            }
+            if (CatsDSLParser.isContextIndependent(verify.getValue())) {
+                try {
+                    staticPatterns.put(verify.getKey(), Pattern.compile(CatsDSLParser.parseAndGetResult(verify.getValue(), Map.of())));
+                } catch (PatternSyntaxException e) {
+                    //this will be compiled, and reported, when matched against the response
+                }
+            }
+        }
+        return new VerificationPlan(Map.copyOf(verifies), Map.copyOf(responsePaths), Map.copyOf(staticPatterns));
+    }
+
+    /**
+     * Reads all the verify entries from the given response body. The body is parsed only once.
+     * Entries not found in the response are set to {@code NOT_SET}, except {@code checkBoolean} which is always {@code true}
+     * so that it can be matched against the evaluated expression.
+     *
+     * @param responseBody the response body
+     * @return a map with the value found in the response for each verify entry
+     */
+    Map<String, String> readFromResponse(String responseBody) {
+        Optional<DocumentContext> responseDocument = parseResponse(responseBody);
+        Map<String, String> result = new HashMap<>();
+        for (String key : verifies.keySet()) {
+            if (key.equalsIgnoreCase(CHECK)) {
+                result.put(key, TRUE);
+            } else {
+                JsonPath path = responsePaths.get(key);
+                result.put(key, String.valueOf(responseDocument.isPresent() && path != null ? JsonUtils.getVariableFromJson(responseDocument.get(), path) : NOT_SET));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the pattern used to check the given verify entry.
+     *
+     * @param key           the verify entry
+     * @param expectedValue evaluates the expected value against the current request and response; only called when the value depends on them
+     * @return the pattern matching the expected value
+     */
+    Pattern pattern(String key, Supplier<String> expectedValue) {
+        Pattern staticPattern = staticPatterns.get(key);
+        return staticPattern != null ? staticPattern : Pattern.compile(expectedValue.get());
+    }
+
+    static Optional<DocumentContext> parseResponse(String responseBody) {
+        try {
+            return Optional.of(JsonUtils.parseAsDocument(responseBody));
+        } catch (JsonPathException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -3,20 +3,19 @@ package com.endava.cats.generator.format.impl;
 import com.endava.cats.generator.format.api.InvalidDataFormatGenerator;
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
 
 import jakarta.inject.Singleton;
 import java.util.List;
-import java.util.Random;
 
 @Singleton
 public class Bcp47Generator implements ValidDataFormatGenerator, InvalidDataFormatGenerator, OpenAPIFormat {
-    private final Random random = new Random();
 
     @Override
     public Object generate(Schema<?> schema) {
         String[] locales = {"en-US", "en-JP", "fr-FR", "de-DE", "de-CH", "de-JP", "ro-RO"};
-        return locales[random.nextInt(locales.length)];
+        return locales[CatsRandom.instance().nextInt(locales.length)];
     }
 
     @Override
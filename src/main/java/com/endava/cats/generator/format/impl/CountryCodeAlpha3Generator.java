@@ -4,22 +4,21 @@ import com.endava.cats.generator.format.api.InvalidDataFormatGenerator;
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.PropertySanitizer;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
 
 import jakarta.inject.Singleton;
 import java.util.List;
 import java.util.Locale;
-import java.util.Random;
 import java.util.Set;
 
 @Singleton
 public class CountryCodeAlpha3Generator implements ValidDataFormatGenerator, InvalidDataFormatGenerator, OpenAPIFormat {
-    private final Random random = new Random();
 
     @Override
     public Object generate(Schema<?> schema) {
         Set<String> isoCountries = Locale.getISOCountries(Locale.IsoCountryCode.PART1_ALPHA3);
-        return isoCountries.stream().skip(random.nextInt(isoCountries.size())).findFirst().orElse(Locale.ROOT.getISO3Country());
+        return isoCountries.stream().sorted().skip(CatsRandom.instance().nextInt(isoCountries.size())).findFirst().orElse(Locale.ROOT.getISO3Country());
     }
 
     @Override
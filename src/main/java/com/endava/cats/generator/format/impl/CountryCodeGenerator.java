@@ -4,17 +4,16 @@ import com.endava.cats.generator.format.api.InvalidDataFormatGenerator;
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.PropertySanitizer;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
 
 import jakarta.inject.Singleton;
 import java.util.List;
 import java.util.Locale;
-import java.util.Random;
 import java.util.Set;
 
 @Singleton
 public class CountryCodeGenerator implements ValidDataFormatGenerator, InvalidDataFormatGenerator, OpenAPIFormat {
-    private final Random random = new Random();
 
     @Override
     public Object generate(Schema<?> schema) {
@@ -23,7 +22,7 @@ public class CountryCodeGenerator implements ValidDataFormatGenerator, InvalidDa
             isoCountryCode = Locale.IsoCountryCode.PART1_ALPHA2;
         }
         Set<String> isoCountries = Locale.getISOCountries(isoCountryCode);
-        return isoCountries.stream().skip(random.nextInt(isoCountries.size())).findFirst().orElse(Locale.UK.getCountry());
+        return isoCountries.stream().sorted().skip(CatsRandom.instance().nextInt(isoCountries.size())).findFirst().orElse(Locale.UK.getCountry());
     }
 
     @Override
@@ -4,8 +4,8 @@ import com.endava.cats.generator.format.api.InvalidDataFormatGenerator;
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.PropertySanitizer;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
-import org.apache.commons.lang3.RandomStringUtils;
 
 import jakarta.inject.Singleton;
 import java.util.List;
@@ -17,7 +17,7 @@ public class EmailGenerator implements ValidDataFormatGenerator, InvalidDataForm
 
     @Override
     public Object generate(Schema<?> schema) {
-        return RandomStringUtils.randomAlphabetic(5) + "cool.cats@cats.io";
+        return CatsRandom.randomAlphabetic(5) + "cool.cats@cats.io";
     }
 
     @Override
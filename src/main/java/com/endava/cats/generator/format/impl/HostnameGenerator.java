@@ -3,8 +3,8 @@ package com.endava.cats.generator.format.impl;
 import com.endava.cats.generator.format.api.InvalidDataFormatGenerator;
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
-import org.apache.commons.lang3.RandomStringUtils;
 
 import jakarta.inject.Singleton;
 import java.util.List;
@@ -13,7 +13,7 @@ import java.util.List;
 public class HostnameGenerator implements ValidDataFormatGenerator, InvalidDataFormatGenerator, OpenAPIFormat {
     @Override
     public Object generate(Schema<?> schema) {
-        String generated = RandomStringUtils.randomAlphabetic(5);
+        String generated = CatsRandom.randomAlphabetic(5);
         return "www.cats%s.com".formatted(generated);
     }
 
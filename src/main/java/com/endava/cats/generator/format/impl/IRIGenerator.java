@@ -2,8 +2,8 @@ package com.endava.cats.generator.format.impl;
 
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
-import org.apache.commons.lang3.RandomStringUtils;
 
 import jakarta.inject.Singleton;
 import java.util.List;
@@ -12,7 +12,7 @@ import java.util.List;
 public class IRIGenerator implements ValidDataFormatGenerator, OpenAPIFormat {
     @Override
     public Object generate(Schema<?> schema) {
-        String generated = RandomStringUtils.randomAlphabetic(6);
+        String generated = CatsRandom.randomAlphabetic(6);
         return "http://ë%s.com/cats".formatted(generated);
     }
 
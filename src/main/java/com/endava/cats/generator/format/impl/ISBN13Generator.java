@@ -3,8 +3,8 @@ package com.endava.cats.generator.format.impl;
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.PropertySanitizer;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
-import org.apache.commons.lang3.RandomStringUtils;
 
 import jakarta.inject.Singleton;
 import java.util.List;
@@ -16,7 +16,7 @@ public class ISBN13Generator implements ValidDataFormatGenerator, OpenAPIFormat
 
     @Override
     public Object generate(Schema<?> schema) {
-        return RandomStringUtils.randomNumeric(13, 13);
+        return CatsRandom.randomNumeric(13);
     }
 
     @Override
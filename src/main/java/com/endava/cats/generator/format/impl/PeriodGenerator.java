@@ -2,6 +2,7 @@ package com.endava.cats.generator.format.impl;
 
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
 
 import jakarta.inject.Singleton;
@@ -11,10 +12,10 @@ import java.util.Random;
 
 @Singleton
 public class PeriodGenerator implements ValidDataFormatGenerator, OpenAPIFormat {
-    private final Random random = new Random();
 
     @Override
     public Object generate(Schema<?> schema) {
+        Random random = CatsRandom.instance();
         return Period.of(random.nextInt(30), random.nextInt(26), random.nextInt(22));
     }
 
@@ -3,8 +3,8 @@ package com.endava.cats.generator.format.impl;
 import com.endava.cats.generator.format.api.InvalidDataFormatGenerator;
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
-import org.apache.commons.lang3.RandomStringUtils;
 
 import jakarta.inject.Singleton;
 import java.util.List;
@@ -17,7 +17,7 @@ public class URIGenerator implements ValidDataFormatGenerator, InvalidDataFormat
 
     @Override
     public Object generate(Schema<?> schema) {
-        return "http://cats%s.com/cats".formatted(RandomStringUtils.randomAlphabetic(6));
+        return "http://cats%s.com/cats".formatted(CatsRandom.randomAlphabetic(6));
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.endava.cats.generator.simple;
 
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 
@@ -120,7 +121,7 @@ public class NumberGenerator {
             minimum = schema.getMinimum();
         }
 
-        BigDecimal randomBigDecimal = minimum.add(BigDecimal.valueOf(Math.random()));
+        BigDecimal randomBigDecimal = minimum.add(BigDecimal.valueOf(CatsRandom.instance().nextDouble()));
         return randomBigDecimal.doubleValue();
     }
 
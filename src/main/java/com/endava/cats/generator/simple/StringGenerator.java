@@ -1,11 +1,11 @@
 package com.endava.cats.generator.simple;
 
+import com.endava.cats.util.CatsRandom;
 import com.github.curiousoddman.rgxgen.RgxGen;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.CollectionUtils;
 
-import java.security.SecureRandom;
 import java.util.regex.Pattern;
 
 public class StringGenerator {
@@ -13,7 +13,6 @@ public class StringGenerator {
     public static final int DEFAULT_MAX_LENGTH = 10000;
     public static final String ALPHANUMERIC_PLUS = "[a-zA-Z0-9]+";
     public static final String ALPHANUMERIC = "[a-zA-Z0-9]";
-    private static final SecureRandom RANDOM = new SecureRandom();
 
     private StringGenerator() {
         //ntd
@@ -69,7 +68,7 @@ public class StringGenerator {
     }
 
     private static String generateUsingRgxGenerator(String pattern, int min, int max) {
-        String generatedValue = new RgxGen(pattern).generate();
+        String generatedValue = new RgxGen(pattern).generate(CatsRandom.instance());
         if (pattern.endsWith("}") || pattern.endsWith("}$")) {
             return generatedValue;
         }
@@ -84,7 +83,7 @@ public class StringGenerator {
         if (trimmed.length() < min) {
             return composeString(trimmed + trimmed, min, max);
         } else if (trimmed.length() > max) {
-            int random = max == min ? 0 : RANDOM.nextInt(max - min);
+            int random = max == min ? 0 : CatsRandom.instance().nextInt(max - min);
             return trimmed.substring(0, max - random);
         }
 
@@ -123,7 +122,7 @@ public class StringGenerator {
         }
         String pattern = ALPHANUMERIC + "{" + (minLength - 1) + "," + minLength + "}";
 
-        return new RgxGen(pattern).generate();
+        return new RgxGen(pattern).generate(CatsRandom.instance());
     }
 
     public static String generateRandomUnicode() {
@@ -132,7 +131,7 @@ public class StringGenerator {
 
         int count = 1000;
         while (count > 0) {
-            int codePoint = RANDOM.nextInt(Character.MAX_CODE_POINT + 1);
+            int codePoint = CatsRandom.instance().nextInt(Character.MAX_CODE_POINT + 1);
             int type = Character.getType(codePoint);
 
             if (!Character.isDefined(codePoint) || type == Character.PRIVATE_USE || type == Character.SURROGATE || type == Character.UNASSIGNED) {
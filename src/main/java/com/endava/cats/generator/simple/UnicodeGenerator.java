@@ -1,10 +1,13 @@
 package com.endava.cats.generator.simple;
 
+import org.apache.commons.lang3.StringUtils;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public abstract class UnicodeGenerator {
@@ -72,20 +75,48 @@ public abstract class UnicodeGenerator {
 
     private static final List<String> abugidasChars = List.of("జ్ఞ\u200Cా", "স্র\u200Cু");
 
+    private static final int MAX_PAYLOAD_CHUNK_SIZE = 6;
+    private static final List<List<String>> PAYLOADS_BY_CHUNK_SIZE = IntStream.rangeClosed(1, MAX_PAYLOAD_CHUNK_SIZE)
+            .mapToObj(UnicodeGenerator::splitAllPayloadsInChunksOf).toList();
+    private static final Map<Integer, String> LARGE_UNICODE_PAYLOADS = new ConcurrentHashMap<>();
+
     private UnicodeGenerator() {
         //ntd
     }
 
     /**
-     * Returns a list of payloads of max(6, size) size.
+     * Returns a list of payloads of min(6, size) size. The payloads are computed once for each size
+     * and the returned list is immutable and shared between callers.
      *
      * @param size the size of the current data
      * @return a list of payloads to be used for fuzzing
      */
     public static List<String> getAllPayloadsOfSize(int size) {
-        String finalSize = String.valueOf(Math.min(size, 6));
+        int chunkSize = Math.max(1, Math.min(size, MAX_PAYLOAD_CHUNK_SIZE));
+        return PAYLOADS_BY_CHUNK_SIZE.get(chunkSize - 1);
+    }
+
+    /**
+     * Returns a random unicode string having at least the given size. The string is generated once for each size and then reused.
+     *
+     * @param size the size of the string
+     * @return a large unicode string
+     */
+    public static String getLargeUnicodeString(int size) {
+        return LARGE_UNICODE_PAYLOADS.computeIfAbsent(size, UnicodeGenerator::generateLargeUnicodeString);
+    }
+
+    private static String generateLargeUnicodeString(int size) {
+        String generatedValue = StringGenerator.generateRandomUnicode();
+        int times = size / generatedValue.length();
+        if (times == 0) {
+            return generatedValue.substring(0, size);
+        }
+        return StringUtils.repeat(generatedValue, times + 1);
+    }
+
+    private static List<String> splitAllPayloadsInChunksOf(int chunkSize) {
         List<String> payloads = new ArrayList<>();
-        List<String> result = new ArrayList<>();
         payloads.addAll(getAbugidasChars());
         payloads.addAll(getControlCharsFields());
         payloads.addAll(getControlCharsHeaders());
@@ -96,12 +127,22 @@ public abstract class UnicodeGenerator {
         payloads.addAll(getMultiCodePointEmojis());
 
         String allChars = String.join("", payloads);
-        Matcher matcher = Pattern.compile(".{1," + finalSize + "}", Pattern.DOTALL).matcher(allChars);
-        while (matcher.find()) {
-            result.add(allChars.substring(matcher.start(), matcher.end()));
+        List<String> result = new ArrayList<>();
+        int chunkStart = 0;
+        int codePointsInChunk = 0;
+        for (int i = 0; i < allChars.length(); i += Character.charCount(allChars.codePointAt(i))) {
+            if (codePointsInChunk == chunkSize) {
+                result.add(allChars.substring(chunkStart, i));
+                chunkStart = i;
+                codePointsInChunk = 0;
+            }
+            codePointsInChunk++;
+        }
+        if (chunkStart < allChars.length()) {
+            result.add(allChars.substring(chunkStart));
         }
 
-        return result;
+        return List.copyOf(result);
     }
 
     public static List<String> getAbugidasChars() {
@@ -0,0 +1,62 @@
+package com.endava.cats.io;
+
+/**
+ * Tracks consecutive connection failures for a single contract path.
+ * <p>
+ * The breaker opens after {@code failureThreshold} consecutive failures. While open, requests are rejected until
+ * {@code openDurationMs} has elapsed. After that a single probe request is let through (half-open): if it gets a response
+ * the breaker closes, otherwise it opens again for another {@code openDurationMs}. If the probe does not report back
+ * within {@code openDurationMs}, another probe is let through.
+ */
+class PathCircuitBreaker {
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    PathCircuitBreaker(int failureThreshold, long openDurationMs) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    /**
+     * Checks if a request can be sent. When the open period elapsed, the current caller becomes the half-open probe.
+     *
+     * @return true if the request can be sent, false otherwise
+     */
+    synchronized boolean allowRequest() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (now - openedAt >= openDurationMs) {
+            state = State.HALF_OPEN;
+            openedAt = now;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
@@ -6,8 +6,10 @@ import com.endava.cats.args.AuthArguments;
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.context.PostResponsesStore;
 import com.endava.cats.dsl.CatsDSLParser;
 import com.endava.cats.dsl.api.Parser;
+import com.endava.cats.exception.CatsCircuitOpenException;
 import com.endava.cats.exception.CatsException;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.io.util.FormEncoder;
@@ -19,9 +21,9 @@ import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsDSLWords;
 import com.endava.cats.util.CatsUtil;
-import com.endava.cats.util.WordUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
 import com.google.common.html.HtmlEscapers;
 import com.google.common.net.HttpHeaders;
 import com.google.common.util.concurrent.RateLimiter;
@@ -59,23 +61,24 @@ import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringTokenizer;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
-import static com.endava.cats.json.JsonUtils.NOT_SET;
 import static com.endava.cats.util.CatsDSLWords.ADDITIONAL_PROPERTIES;
 
 /**
@@ -99,6 +102,18 @@ public class ServiceCaller {
 
     private RateLimiter rateLimiter;
 
+    /**
+     * Responses of already sent requests, keyed by a hash of method, url, headers and body.
+     * Only used when {@code --deduplicateRequests} is enabled. Least recently used entries are evicted first once the total
+     * size of the cached bodies exceeds {@code --deduplicateCacheSize}. Access is guarded by the map itself.
+     */
+    private final LinkedHashMap<String, CatsResponse> responsesCache = new LinkedHashMap<>(16, 0.75f, true);
+    private long responsesCacheSize;
+
+    private final Map<String, PathCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
     @Inject
     public ServiceCaller(CatsGlobalContext context, TestCaseListener lr, CatsUtil cu, FilesArguments filesArguments, AuthArguments authArguments, ApiArguments apiArguments, ProcessingArguments processingArguments) {
         this.testCaseListener = lr;
@@ -195,6 +210,7 @@ public class ServiceCaller {
                 .httpMethod(data.getHttpMethod().name())
                 .build();
 
+        Optional<PathCircuitBreaker> circuitBreaker = this.getCircuitBreaker(data);
         long startTime = System.currentTimeMillis();
         try {
             String url = this.getPathWithRefDataReplacedForHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
@@ -212,23 +228,101 @@ public class ServiceCaller {
             logger.note("Final url: {}", url);
 
             startTime = System.currentTimeMillis();
-            CatsResponse response = this.callService(catsRequest, data.getFuzzedFields());
+            CatsResponse response = this.callOrReuseResponse(catsRequest, data.getFuzzedFields());
+            circuitBreaker.ifPresent(PathCircuitBreaker::recordSuccess);
 
             this.recordRequestAndResponse(catsRequest, response, data);
             return response;
         } catch (IOException e) {
+            circuitBreaker.ifPresent(PathCircuitBreaker::recordFailure);
             long duration = System.currentTimeMillis() - startTime;
             this.recordRequestAndResponse(catsRequest, CatsResponse.builder()
                     .body("empty response").httpMethod(catsRequest.getHttpMethod())
                     .responseTimeInMs(duration).responseCode(999)
                     .jsonBody(new JsonPrimitive("empty response"))
-                    .fuzzedField(data.getFuzzedFields()
-                            .stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                    .fuzzedField(getFuzzedField(data.getFuzzedFields()))
                     .build(), data);
             throw new CatsException(e);
         }
     }
 
+    /**
+     * Returns the circuit breaker of the path targeted by the given request, if {@code --circuitBreakerThreshold} is enabled.
+     *
+     * @param data the current context data
+     * @return the circuit breaker for the path or empty if circuit breaking is disabled
+     * @throws CatsCircuitOpenException if the circuit breaker is open and requests for this path must not be sent
+     */
+    private Optional<PathCircuitBreaker> getCircuitBreaker(ServiceData data) {
+        if (apiArguments.getCircuitBreakerThreshold() <= 0) {
+            return Optional.empty();
+        }
+        String path = Optional.ofNullable(data.getContractPath()).orElse(data.getRelativePath());
+        PathCircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(path,
+                key -> new PathCircuitBreaker(apiArguments.getCircuitBreakerThreshold(), TimeUnit.SECONDS.toMillis(apiArguments.getCircuitBreakerOpenTime())));
+
+        if (!circuitBreaker.allowRequest()) {
+            throw new CatsCircuitOpenException("Circuit breaker is open for path %s after %d consecutive connection failures or timeouts"
+                    .formatted(path, apiArguments.getCircuitBreakerThreshold()));
+        }
+        return Optional.of(circuitBreaker);
+    }
+
+    private CatsResponse callOrReuseResponse(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
+        if (!apiArguments.isDeduplicateRequests()) {
+            return this.callService(catsRequest, fuzzedFields);
+        }
+        String requestKey = this.computeRequestKey(catsRequest);
+        CatsResponse cachedResponse;
+        synchronized (responsesCache) {
+            cachedResponse = responsesCache.get(requestKey);
+        }
+        if (cachedResponse != null) {
+            logger.note("Identical request already sent. Reusing response with code {}", cachedResponse.getResponseCode());
+            testCaseListener.recordReusedResponse();
+            return cachedResponse.toBuilder().fuzzedField(getFuzzedField(fuzzedFields)).reused(true).build();
+        }
+        CatsResponse response = this.callService(catsRequest, fuzzedFields);
+        this.cacheResponse(requestKey, response);
+        return response;
+    }
+
+    private void cacheResponse(String requestKey, CatsResponse response) {
+        long maxCacheSize = apiArguments.getDeduplicateCacheSize() * 1024L * 1024L;
+        long responseSize = bodySize(response);
+        if (responseSize > maxCacheSize) {
+            logger.debug("Response body of {} characters is larger than --deduplicateCacheSize, not caching it", responseSize);
+            return;
+        }
+        synchronized (responsesCache) {
+            CatsResponse previous = responsesCache.put(requestKey, response);
+            responsesCacheSize += responseSize - (previous == null ? 0 : bodySize(previous));
+            Iterator<CatsResponse> leastRecentlyUsed = responsesCache.values().iterator();
+            while (responsesCacheSize > maxCacheSize) {
+                responsesCacheSize -= bodySize(leastRecentlyUsed.next());
+                leastRecentlyUsed.remove();
+            }
+        }
+    }
+
+    private static long bodySize(CatsResponse response) {
+        return StringUtils.length(response.getBody());
+    }
+
+    private String computeRequestKey(CatsRequest catsRequest) {
+        StringBuilder keyBuilder = new StringBuilder(catsRequest.getHttpMethod()).append('\n').append(catsRequest.getUrl()).append('\n');
+        for (KeyValuePair<String, Object> header : catsRequest.getHeaders()) {
+            keyBuilder.append(header.getKey()).append(':').append(header.getValue()).append('\n');
+        }
+        keyBuilder.append(catsRequest.getPayload());
+
+        return Hashing.sha256().hashString(keyBuilder, StandardCharsets.UTF_8).toString();
+    }
+
+    private static String getFuzzedField(Set<String> fuzzedFields) {
+        return fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null);
+    }
+
     String addAdditionalQueryParams(String startingUrl, String currentPath) {
         HttpUrl.Builder httpUrl = HttpUrl.get(startingUrl).newBuilder();
 
@@ -258,15 +352,17 @@ public class ServiceCaller {
         if (data.getHttpMethod() == HttpMethod.DELETE) {
             String postPath = data.getRelativePath().substring(0, data.getRelativePath().lastIndexOf("/"));
             logger.note("Executing DELETE for path {}. Searching stored POST requests for corresponding POST path {}", data.getRelativePath(), postPath);
-            String postPayload = catsGlobalContext.getPostSuccessfulResponses().getOrDefault(postPath, new ArrayDeque<>()).peek();
-            if (postPayload != null) {
+            Optional<Map<String, String>> postPayload = catsGlobalContext.getPostSuccessfulResponses().peek(postPath);
+            if (postPayload.isPresent()) {
                 String deleteParam = data.getRelativePath().substring(data.getRelativePath().lastIndexOf("/") + 1).replace("{", "").replace("}", "");
                 logger.note("Found corresponding POST payload. Matching DELETE path parameter {} with POST body...", deleteParam);
-                Optional<String> deleteParamValue = this.getParamValueFromPostPayload(deleteParam, postPayload);
+                Optional<String> deleteParamValue = PostResponsesStore.findValue(postPayload.get(), deleteParam);
 
                 if (deleteParamValue.isPresent()) {
+                    logger.note("Found matching DELETE parameter {} in POST payload", deleteParam);
                     return Map.of(deleteParam, deleteParamValue.get());
                 }
+                logger.warn("Unable to correlate DELETE parameter {} with POST payload", deleteParam);
             } else {
                 logger.note("No corresponding POST payload found or already consumed");
             }
@@ -275,32 +371,6 @@ public class ServiceCaller {
         return Collections.emptyMap();
     }
 
-    Optional<String> getParamValueFromPostPayload(String deleteParam, String postPayload) {
-        String[] camelCase = deleteParam.split("(?<!(^|[A-Z]))(?=[A-Z])|(?<!^)(?=[A-Z][a-z])");
-        String[] snakeCase = deleteParam.split("_");
-        String[] kebabCase = deleteParam.split("-");
-
-        Set<String> candidates = new TreeSet<>();
-        candidates.addAll(WordUtils.createWordCombinations(snakeCase));
-        candidates.addAll(WordUtils.createWordCombinations(camelCase));
-        candidates.addAll(WordUtils.createWordCombinations(kebabCase));
-
-        logger.debug("Params to search in POST payload {}", candidates);
-
-        for (String candidate : candidates) {
-            String value = String.valueOf(JsonUtils.getVariableFromJson(postPayload, candidate));
-
-            if (!value.equalsIgnoreCase(NOT_SET)) {
-                logger.note("Found matching DELETE parameter in POST payload using key [{}]", candidate);
-                return Optional.of(value);
-            }
-        }
-        logger.warn("Unable to correlate DELETE parameter {} with POST payload", deleteParam);
-
-        return Optional.empty();
-    }
-
-
     List<KeyValuePair<String, Object>> buildHeaders(ServiceData data) {
         List<KeyValuePair<String, Object>> headers = new ArrayList<>();
 
@@ -369,6 +439,7 @@ public class ServiceCaller {
             //for GET and HEAD we remove Content-Type as some servers don't like it
             headers.removeAll("Content-Type");
         }
+        inFlightRequests.incrementAndGet();
         try (Response response = okHttpClient.newCall(new Request.Builder()
                 .url(catsRequest.getUrl())
                 .headers(headers.build())
@@ -380,16 +451,31 @@ public class ServiceCaller {
             CatsResponse catsResponse = catsResponseBuilder.httpMethod(catsRequest.getHttpMethod())
                     .responseTimeInMs(endTime - startTime)
                     .path(catsRequest.getUrl())
-                    .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                    .fuzzedField(getFuzzedField(fuzzedFields))
                     .build();
 
             logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}", response.protocol(),
                     catsResponse.getHttpMethod(), catsResponse.responseCodeAsString(), endTime - startTime, catsResponse.getContentLengthInBytes());
 
             return catsResponse;
+        } finally {
+            inFlightRequests.decrementAndGet();
         }
     }
 
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    /**
+     * Returns the rate, in requests per second, currently allowed by the rate limiter.
+     *
+     * @return the current rate limit in requests per second
+     */
+    public double getRequestsPerSecondLimit() {
+        return rateLimiter == null ? 0 : rateLimiter.getRate();
+    }
+
     private CatsResponse.CatsResponseBuilder populateCatsResponseFromHttpResponse(Response response) throws IOException {
         List<KeyValuePair<String, String>> responseHeaders = response.headers()
                 .toMultimap()
@@ -485,7 +571,7 @@ public class ServiceCaller {
         if (JsonUtils.isValidJson(rawResponse)) {
             return rawResponse;
         }
-        return "{\"notAJson\": \"" + JSONValue.escape(rawResponse.substring(0, Math.min(500, rawResponse.length()))) + "\"}";
+        return "{\"" + JsonUtils.NOT_A_JSON + "\": \"" + JSONValue.escape(rawResponse.substring(0, Math.min(500, rawResponse.length()))) + "\"}";
     }
 
     public String getAsRawString(Response response) throws IOException {
@@ -2,6 +2,7 @@ package com.endava.cats.io.util;
 
 
 import com.endava.cats.model.KeyValuePair;
+import com.endava.cats.util.CatsRandom;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -13,7 +14,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.UUID;
 
 import static java.util.Objects.requireNonNull;
 
@@ -70,7 +70,7 @@ public final class HttpContent {
      * @throws IllegalArgumentException if nameValueCollection is null
      */
     public static HttpContent buildMultipartFormDataContent(Collection<KeyValuePair<String, Object>> nameValueCollection) throws IOException {
-        String boundary = UUID.randomUUID().toString();
+        String boundary = CatsRandom.randomUUID().toString();
         return buildMultipartFormDataContent(nameValueCollection, boundary);
     }
 
@@ -2,22 +2,16 @@ package com.endava.cats.json;
 
 import com.endava.cats.model.ann.ExcludeTestCaseStrategy;
 import com.endava.cats.model.util.LongTypeSerializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import com.google.gson.stream.JsonReader;
-import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
-import com.jayway.jsonpath.ParseContext;
 import com.jayway.jsonpath.PathNotFoundException;
-import com.jayway.jsonpath.internal.ParseContextImpl;
-import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
-import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import net.minidev.json.JSONArray;
@@ -26,11 +20,16 @@ import net.minidev.json.parser.ParseException;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.StringReader;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
 public abstract class JsonUtils {
     public static final String NOT_SET = "NOT_SET";
+    public static final String NOT_A_JSON = "notAJson";
     public static final String FIRST_ELEMENT_FROM_ROOT_ARRAY = "$[0]#";
     public static final String ALL_ELEMENTS_ROOT_ARRAY = "$[*]#";
     public static final JSONParser GENERIC_PERMISSIVE_PARSER = new JSONParser(JSONParser.MODE_PERMISSIVE);
@@ -46,11 +45,6 @@ public abstract class JsonUtils {
             .create();
 
     private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(JsonUtils.class);
-    private static final Configuration JACKSON_JSON_NODE_CONFIGURATION = Configuration.builder()
-            .mappingProvider(new JacksonMappingProvider())
-            .jsonProvider(new JacksonJsonNodeJsonProvider())
-            .build();
-    private static final ParseContext PARSE_CONTEXT = new ParseContextImpl(JACKSON_JSON_NODE_CONFIGURATION);
 
     private JsonUtils() {
         //ntd
@@ -70,54 +64,110 @@ public abstract class JsonUtils {
         return JsonParser.parseReader(reader);
     }
 
+    /**
+     * Parses the given payload so that it can be reused across multiple calls of the {@code DocumentContext} overloads
+     * from this class, rather than parsing the same payload for each call.
+     *
+     * @param payload the JSON payload
+     * @return a parsed document
+     */
+    public static DocumentContext parseAsDocument(String payload) {
+        return JsonPath.parse(payload);
+    }
+
     public static boolean isValidJson(String text) {
+        if (!mightBeValidJson(text)) {
+            return false;
+        }
         try {
             JSON_STRICT_PARSER.parse(text);
         } catch (Exception e) {
             return false;
         }
-        return text.contains("{") || text.contains("]");
+        return true;
     }
 
-    private static boolean testForPrimitiveOrThrow(String payload, String property) {
-        return testForPredicateOrThrow(payload, property, JsonNode::isValueNode);
+    /**
+     * Cheap structural check done before the actual parsing. Text which doesn't start like a JSON value
+     * or doesn't contain any object or array is not considered JSON, so it's rejected without parsing.
+     */
+    private static boolean mightBeValidJson(String text) {
+        if (text == null || (text.indexOf('{') == -1 && text.indexOf(']') == -1)) {
+            return false;
+        }
+        int firstChar = firstNonWhitespaceChar(text);
+        return firstChar == '{' || firstChar == '[' || firstChar == '"' || firstChar == '-'
+                || Character.isDigit(firstChar) || firstChar == 't' || firstChar == 'f' || firstChar == 'n';
     }
 
-    private static boolean testForPredicateOrThrow(String payload, String property, Predicate<JsonNode> testFunction) {
-        if (isJsonArray(payload)) {
+    private static int firstNonWhitespaceChar(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (!Character.isWhitespace(current)) {
+                return current;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isPrimitiveValue(Object value) {
+        return !(value instanceof Map) && !(value instanceof List);
+    }
+
+    private static boolean testForPredicateOrThrow(DocumentContext document, String property, Predicate<Object> testFunction) {
+        if (isJsonArray(document)) {
             property = FIRST_ELEMENT_FROM_ROOT_ARRAY + property;
         }
 
-        JsonNode jsonNode = PARSE_CONTEXT.parse(payload).read(JsonUtils.sanitizeToJsonPath(property));
-        return testFunction.test(jsonNode);
+        Object value = document.read(JsonUtils.sanitizeToJsonPath(property));
+        return testFunction.test(value);
     }
 
     public static boolean isPrimitive(String payload, String property) {
+        return isPrimitive(parseAsDocument(payload), property);
+    }
+
+    public static boolean isPrimitive(DocumentContext document, String property) {
         try {
-            return testForPrimitiveOrThrow(payload, property);
+            return testForPredicateOrThrow(document, property, JsonUtils::isPrimitiveValue);
         } catch (PathNotFoundException e) {
             return false;
         }
     }
 
     public static boolean isObject(String payload, String property) {
+        return isObject(parseAsDocument(payload), property);
+    }
+
+    public static boolean isObject(DocumentContext document, String property) {
         try {
-            return !testForPrimitiveOrThrow(payload, property);
+            return !testForPredicateOrThrow(document, property, JsonUtils::isPrimitiveValue);
         } catch (InvalidPathException e) {
             return false;
         }
     }
 
     public static boolean isArray(String payload, String property) {
+        return isArray(parseAsDocument(payload), property);
+    }
+
+    public static boolean isArray(DocumentContext document, String property) {
         try {
-            return testForPredicateOrThrow(payload, property, JsonNode::isArray);
+            return testForPredicateOrThrow(document, property, List.class::isInstance);
         } catch (InvalidPathException e) {
             return false;
         }
     }
 
     public static boolean isJsonArray(String payload) {
-        return JsonPath.parse(payload).read("$") instanceof JSONArray;
+        if (payload != null && firstNonWhitespaceChar(payload) == '{') {
+            return false;
+        }
+        return isJsonArray(parseAsDocument(payload));
+    }
+
+    public static boolean isJsonArray(DocumentContext document) {
+        return document.json() instanceof JSONArray;
     }
 
     public static String deleteNode(String payload, String node) {
@@ -131,6 +181,22 @@ public abstract class JsonUtils {
         return payload;
     }
 
+    /**
+     * Deletes the given node from the already parsed document. The document is left unchanged if the node doesn't exist.
+     *
+     * @param document the parsed JSON document
+     * @param node     the node to delete
+     * @return the same document, for chaining
+     */
+    public static DocumentContext deleteNodeFromDocument(DocumentContext document, String node) {
+        try {
+            document.delete(JsonUtils.sanitizeToJsonPath(node));
+        } catch (PathNotFoundException e) {
+            LOGGER.debug("Node {} not found, nothing to delete", node);
+        }
+        return document;
+    }
+
     /**
      * This will either replace the {@code nodeKey} with the {@code nodeValue} or, if the given key is not found,
      * it will replace the {@code alternativeKey} with the {@code nodeValue} and eliminate all other keys
@@ -174,7 +240,15 @@ public abstract class JsonUtils {
 
     public static Object getVariableFromJson(String jsonPayload, String value) {
         try {
-            DocumentContext jsonDoc = JsonPath.parse(jsonPayload);
+            return getVariableFromJson(parseAsDocument(jsonPayload), value);
+        } catch (JsonPathException | IllegalArgumentException e) {
+            LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
+            return NOT_SET;
+        }
+    }
+
+    public static Object getVariableFromJson(DocumentContext jsonDoc, String value) {
+        try {
             return jsonDoc.read(JsonUtils.sanitizeToJsonPath(value));
         } catch (JsonPathException | IllegalArgumentException e) {
             LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
@@ -182,10 +256,23 @@ public abstract class JsonUtils {
         }
     }
 
+    public static Object getVariableFromJson(DocumentContext jsonDoc, JsonPath compiledPath) {
+        try {
+            return jsonDoc.read(compiledPath);
+        } catch (JsonPathException | IllegalArgumentException e) {
+            LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", compiledPath.getPath());
+            return NOT_SET;
+        }
+    }
+
     public static boolean isFieldInJson(String jsonPayload, String field) {
         return !NOT_SET.equalsIgnoreCase(String.valueOf(getVariableFromJson(jsonPayload, field)));
     }
 
+    public static boolean isFieldInJson(DocumentContext jsonDoc, String field) {
+        return !NOT_SET.equalsIgnoreCase(String.valueOf(getVariableFromJson(jsonDoc, field)));
+    }
+
     public static boolean isEmptyPayload(String payload) {
         return payload == null || payload.isBlank() || payload.trim().equals("{}") || payload.trim().equals("\"{}\"");
     }
@@ -197,12 +284,11 @@ public abstract class JsonUtils {
             return false;
         }
 
-        for (int i = 0; i < properties.length - 1; i++) {
-            for (int j = i + 1; j <= properties.length - 1; j++) {
-                if (properties[i].equalsIgnoreCase(properties[j])) {
-                    LOGGER.trace("Found cyclic dependencies for {}", currentProperty);
-                    return true;
-                }
+        Set<String> seenProperties = new HashSet<>();
+        for (String property : properties) {
+            if (!seenProperties.add(property.toLowerCase(Locale.ROOT))) {
+                LOGGER.trace("Found cyclic dependencies for {}", currentProperty);
+                return true;
             }
         }
 
@@ -1,6 +1,7 @@
 package com.endava.cats.model;
 
 import com.endava.cats.generator.simple.StringGenerator;
+import com.endava.cats.util.CatsRandom;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import lombok.AllArgsConstructor;
@@ -9,7 +10,6 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.time.OffsetDateTime;
-import java.util.UUID;
 
 /**
  * This class represents the HTTP headers from the OpenAPI contract and use them as the data model across all layers.
@@ -48,7 +48,11 @@ public class CatsHeader {
 
 
     public CatsHeader copy() {
-        return CatsHeader.builder().name(this.name).required(this.required).value(this.value).build();
+        return this.copyWithValue(this.value);
+    }
+
+    public CatsHeader copyWithValue(String newValue) {
+        return CatsHeader.builder().name(this.name).required(this.required).value(newValue).build();
     }
 
     private String generateValue(Schema schema) {
@@ -57,7 +61,7 @@ public class CatsHeader {
         }
 
         if ("uuid".equalsIgnoreCase(schema.getFormat())) {
-            return UUID.randomUUID().toString();
+            return CatsRandom.randomUUID().toString();
         }
         if ("date-time".equalsIgnoreCase(schema.getFormat())) {
             return OffsetDateTime.now().toString();
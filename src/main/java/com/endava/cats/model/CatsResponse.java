@@ -9,7 +9,7 @@ import lombok.Getter;
 import java.util.Collections;
 import java.util.List;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class CatsResponse {
     private final int responseCode;
@@ -20,6 +20,7 @@ public class CatsResponse {
     private final long contentLengthInBytes;
     private final JsonElement jsonBody;
     private final List<KeyValuePair<String, String>> headers;
+    private final boolean reused;
 
     @Exclude
     private final String path;
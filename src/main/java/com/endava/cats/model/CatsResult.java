@@ -2,10 +2,17 @@ package com.endava.cats.model;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+
+/**
+ * The possible outcomes of a test case. The {@code with*} methods return a new {@link Details} object holding the values
+ * used to fill the message and reason placeholders, so the enum constants are never mutated and can be used
+ * concurrently.
+ */
 @RequiredArgsConstructor
 public enum CatsResult {
     OK("Response matches expected result. Response code [$code] is documented and response body matches the corresponding schema.", "All Good!"),
-    NOT_MATCHING_RESPONSE_SCHEMA("Response does NOT match expected result. Response code [$code] is documented, but response body does NOT matches the corresponding schema.", "Not Matching Response Schema"),
+    NOT_MATCHING_RESPONSE_SCHEMA("Response does NOT match expected result. Response code [$code] is documented, but response body does NOT matches the corresponding schema.$unmatched_fields", "Not Matching Response Schema"),
     UNDOCUMENTED_RESPONSE_CODE("Response does NOT match expected result. Response code is from a list of expected codes for this FUZZER, but it is undocumented: expected $expected_rc, actual [$code], documented response codes: $documented_rc", "Undocumented Response Code: $code"),
     UNEXPECTED_RESPONSE_CODE("Response does NOT match expected result. Response code is NOT from a list of expected codes for this FUZZER: expected $expected_rc, actual [$code]", "Unexpected Response Code: $code"),
     NOT_IMPLEMENTED("Response HTTP code 501: you forgot to implement this functionality!", "Not Implemented"),
@@ -16,32 +23,66 @@ public enum CatsResult {
     private final String message;
     private final String reason;
 
-    private String responseCode = "";
-    private String expectedResponseCodes = "";
-    private String documentedResponseCodes = "";
+    public Details details() {
+        return new Details(this, "", "", "", "");
+    }
+
+    public Details withResponseCode(String rc) {
+        return this.details().withResponseCode(rc);
+    }
 
-    public CatsResult withResponseCode(String rc) {
-        this.responseCode = rc;
-        return this;
+    public Details withExpectedResponseCodes(String responseCodes) {
+        return this.details().withExpectedResponseCodes(responseCodes);
     }
 
-    public CatsResult withExpectedResponseCodes(String responseCodes) {
-        this.expectedResponseCodes = responseCodes;
-        return this;
+    public Details withDocumentedResponseCodes(String documentedResponseCodes) {
+        return this.details().withDocumentedResponseCodes(documentedResponseCodes);
     }
 
-    public CatsResult withDocumentedResponseCodes(String documentedResponseCodes) {
-        this.documentedResponseCodes = documentedResponseCodes;
-        return this;
+    public Details withUnmatchedFields(List<String> fields) {
+        return this.details().withUnmatchedFields(fields);
     }
 
     public String getMessage() {
-        return this.message.replace("$code", responseCode)
-                .replace("$expected_rc", expectedResponseCodes)
-                .replace("$documented_rc", documentedResponseCodes);
+        return this.details().getMessage();
     }
 
     public String getReason() {
-        return this.reason.replace("$code", responseCode);
+        return this.details().getReason();
+    }
+
+    /**
+     * An immutable result together with the values of its placeholders.
+     */
+    public record Details(CatsResult result, String responseCode, String expectedResponseCodes, String documentedResponseCodes,
+                          String unmatchedFields) {
+
+        public Details withResponseCode(String rc) {
+            return new Details(result, rc, expectedResponseCodes, documentedResponseCodes, unmatchedFields);
+        }
+
+        public Details withExpectedResponseCodes(String responseCodes) {
+            return new Details(result, responseCode, responseCodes, documentedResponseCodes, unmatchedFields);
+        }
+
+        public Details withDocumentedResponseCodes(String documentedRc) {
+            return new Details(result, responseCode, expectedResponseCodes, documentedRc, unmatchedFields);
+        }
+
+        public Details withUnmatchedFields(List<String> fields) {
+            return new Details(result, responseCode, expectedResponseCodes, documentedResponseCodes,
+                    fields.isEmpty() ? "" : " Response fields not matching the schema: " + fields);
+        }
+
+        public String getMessage() {
+            return result.message.replace("$code", responseCode)
+                    .replace("$expected_rc", expectedResponseCodes)
+                    .replace("$documented_rc", documentedResponseCodes)
+                    .replace("$unmatched_fields", unmatchedFields);
+        }
+
+        public String getReason() {
+            return result.reason.replace("$code", responseCode);
+        }
     }
 }
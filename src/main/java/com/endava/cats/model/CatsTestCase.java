@@ -47,8 +47,13 @@ public class CatsTestCase {
         return !"skipped".equalsIgnoreCase(result);
     }
 
+    /**
+     * Response times are relevant only for responses received from the service for this test case, so reused responses are ignored.
+     *
+     * @return {@code true} if the response time of this test case must be part of the execution statistics
+     */
     public boolean notIgnoredForExecutionStatistics() {
-        return response.getResponseCode() != 999;
+        return response.getResponseCode() != 999 && !response.isReused();
     }
 
     public String getHeaders() {
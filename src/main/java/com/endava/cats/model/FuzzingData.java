@@ -2,6 +2,7 @@ package com.endava.cats.model;
 
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.json.JsonUtils;
+import com.jayway.jsonpath.DocumentContext;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -11,15 +12,19 @@ import io.swagger.v3.oas.models.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Builder(toBuilder = true)
 @Getter
@@ -77,17 +82,35 @@ public class FuzzingData {
     }
 
     private String removeReadOnlyFields(Set<String> fieldsToRemove) {
-        String result = payload;
+        if (fieldsToRemove.isEmpty() || StringUtils.isBlank(payload)) {
+            return payload;
+        }
+        DocumentContext payloadDocument = JsonUtils.parseAsDocument(payload);
         for (String readOnlyField : fieldsToRemove) {
-            result = JsonUtils.deleteNode(result, readOnlyField);
+            JsonUtils.deleteNodeFromDocument(payloadDocument, readOnlyField);
         }
 
-        return result;
+        return payloadDocument.jsonString();
     }
 
-    private Set<CatsField> getFields(Schema schema, String prefix) {
+    /**
+     * Walks the schema and returns all the fields reachable from it.
+     * The names of the properties on the current path are kept in {@code ancestors} (lower-cased) so that cyclic references
+     * are detected in constant time per node, instead of re-scanning the whole prefix. This is equivalent to
+     * {@link JsonUtils#isCyclicReference(String, int)}: a path is cyclic when it has at least {@code selfReferenceDepth}
+     * segments and one of them repeats.
+     *
+     * @param schema    the current schema
+     * @param prefix    the name of the current field, {@code #} separated
+     * @param ancestors the lower-cased property names on the current path
+     * @param segments  the number of segments in the prefix
+     * @param repeated  whether a property name repeats within the prefix
+     * @return all the fields reachable from the given schema
+     */
+    private Set<CatsField> getFields(Schema schema, String prefix, Set<String> ancestors, int segments, boolean repeated) {
         logger.trace("Getting fields for prefix: {}", prefix);
-        if (JsonUtils.isCyclicReference(prefix, selfReferenceDepth)) {
+        if (repeated && segments >= selfReferenceDepth) {
+            logger.trace("Found cyclic dependencies for {}", prefix);
             return Collections.emptySet();
         }
         Set<CatsField> catsFields = new HashSet<>();
@@ -98,19 +121,26 @@ public class FuzzingData {
 
         if (schema.getProperties() != null) {
             for (Map.Entry<String, Schema> prop : (Set<Map.Entry<String, Schema>>) schema.getProperties().entrySet()) {
+                String fieldName = prefix.isEmpty() ? prop.getKey() : prefix + "#" + prop.getKey();
                 catsFields.add(CatsField.builder()
-                        .name(prefix.isEmpty() ? prop.getKey() : prefix + "#" + prop.getKey())
+                        .name(fieldName)
                         .schema(prop.getValue())
                         .required(required.contains(prop.getKey()))
                         .readOnly(Optional.ofNullable(prop.getValue().getReadOnly()).orElse(false))
                         .writeOnly(Optional.ofNullable(prop.getValue().getWriteOnly()).orElse(false))
                         .build());
-                catsFields.addAll(this.getFields(prop.getValue(), prefix.isEmpty() ? prop.getKey() : prefix + "#" + prop.getKey()));
+                String ancestor = prop.getKey().toLowerCase(Locale.ROOT);
+                boolean newAncestor = ancestors.add(ancestor);
+                catsFields.addAll(this.getFields(prop.getValue(), fieldName, ancestors, prefix.isEmpty() ? 1 : segments + 1, repeated || !newAncestor));
+                if (newAncestor) {
+                    ancestors.remove(ancestor);
+                }
             }
         } else if (schema instanceof ComposedSchema composedSchema) {
-            Optional.ofNullable(composedSchema.getAllOf()).ifPresent(allOf -> allOf.forEach(item -> catsFields.addAll(this.getFields(item, prefix))));
-            Optional.ofNullable(composedSchema.getAnyOf()).ifPresent(anyOf -> anyOf.forEach(item -> catsFields.addAll(this.getFields(item, prefix))));
-            Optional.ofNullable(composedSchema.getOneOf()).ifPresent(oneOf -> oneOf.forEach(item -> catsFields.addAll(this.getFields(item, prefix))));
+            Stream.of(composedSchema.getAllOf(), composedSchema.getAnyOf(), composedSchema.getOneOf())
+                    .filter(Objects::nonNull)
+                    .flatMap(List::stream)
+                    .forEach(item -> catsFields.addAll(this.getFields(item, prefix, ancestors, segments, repeated)));
         }
 
         return catsFields.stream()
@@ -146,7 +176,7 @@ public class FuzzingData {
 
     public Set<CatsField> getAllFieldsAsCatsFields() {
         if (allFieldsAsCatsFields == null) {
-            allFieldsAsCatsFields = this.getFields(reqSchema, "");
+            allFieldsAsCatsFields = this.getFields(reqSchema, "", new HashSet<>(), 1, false);
         }
 
         return allFieldsAsCatsFields;
@@ -0,0 +1,149 @@
+package com.endava.cats.openapi;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Computes fingerprints for each contract operation. A fingerprint covers the operation definition,
+ * the parameters declared at path level and all the components transitively reachable through {@code $ref}s.
+ * Two versions of a contract will produce the same fingerprint for an operation only if nothing affecting it changed.
+ */
+public abstract class OpenApiFingerprints {
+    public static final String FINGERPRINTS = "fingerprints";
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(OpenApiFingerprints.class);
+    private static final String REF = "$ref";
+    private static final ObjectMapper CANONICAL_MAPPER = Json.mapper().copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private OpenApiFingerprints() {
+        //ntd
+    }
+
+    /**
+     * Computes the fingerprints of all operations from the given contract.
+     *
+     * @param openAPI the OpenAPI object parsed from the contract
+     * @return a map having {@code HTTP_METHOD path} as keys and the operation fingerprint as values
+     */
+    public static Map<String, String> fingerprintOperations(OpenAPI openAPI) {
+        JsonNode root = Json.mapper().valueToTree(openAPI);
+        Map<String, String> fingerprints = new TreeMap<>();
+
+        for (Map.Entry<String, PathItem> pathEntry : Optional.ofNullable(openAPI.getPaths()).orElseGet(Paths::new).entrySet()) {
+            JsonNode pathNode = root.path("paths").path(pathEntry.getKey());
+            for (PathItem.HttpMethod method : pathEntry.getValue().readOperationsMap().keySet()) {
+                JsonNode operationNode = pathNode.path(method.name().toLowerCase(Locale.ROOT));
+                String fingerprint = fingerprint(root, List.of(operationNode, pathNode.path("parameters")));
+                fingerprints.put(operationKey(method.name(), pathEntry.getKey()), fingerprint);
+            }
+        }
+        LOGGER.debug("Computed fingerprints for {} operations", fingerprints.size());
+        return fingerprints;
+    }
+
+    /**
+     * Loads the operation fingerprints from a previous run. The file can either be a
+     * {@code cats-fingerprints.json} file written by a previous run or a previous version of the contract.
+     *
+     * @param file the fingerprints file or the previous contract
+     * @return a map having {@code HTTP_METHOD path} as keys and the operation fingerprint as values
+     * @throws IOException if something happens while reading the file
+     */
+    public static Map<String, String> loadFingerprints(File file) throws IOException {
+        JsonNode fingerprintsNode = readAsJson(file).path(FINGERPRINTS);
+        if (fingerprintsNode.isObject()) {
+            LOGGER.debug("Loading fingerprints from file {}", file.getAbsolutePath());
+            Map<String, String> fingerprints = new HashMap<>();
+            fingerprintsNode.fields().forEachRemaining(entry -> fingerprints.put(entry.getKey(), entry.getValue().asText()));
+            return fingerprints;
+        }
+        LOGGER.debug("Computing fingerprints from previous contract {}", file.getAbsolutePath());
+        OpenAPI previousOpenAPI = OpenApiUtils.readOpenApi(file.getAbsolutePath());
+        if (previousOpenAPI == null) {
+            throw new IOException("Unable to parse " + file.getAbsolutePath() + " as a fingerprints file or as an OpenAPI contract");
+        }
+        return fingerprintOperations(previousOpenAPI);
+    }
+
+    public static String operationKey(String httpMethod, String path) {
+        return httpMethod + " " + path;
+    }
+
+    private static JsonNode readAsJson(File file) {
+        try {
+            return Json.mapper().readTree(file);
+        } catch (IOException e) {
+            LOGGER.debug("File {} is not a JSON file: {}", file.getAbsolutePath(), e.getMessage());
+            return Json.mapper().createObjectNode();
+        }
+    }
+
+    private static String fingerprint(JsonNode root, List<JsonNode> operationNodes) {
+        Map<String, JsonNode> referencedNodes = new TreeMap<>();
+        Deque<JsonNode> toVisit = new ArrayDeque<>(operationNodes);
+
+        while (!toVisit.isEmpty()) {
+            JsonNode current = toVisit.pop();
+            String ref = current.path(REF).asText("");
+            if (ref.startsWith("#/") && !referencedNodes.containsKey(ref)) {
+                JsonNode referenced = root.at(ref.substring(1));
+                referencedNodes.put(ref, referenced);
+                toVisit.push(referenced);
+            }
+            for (Iterator<JsonNode> it = current.elements(); it.hasNext(); ) {
+                toVisit.push(it.next());
+            }
+        }
+
+        MessageDigest digest = sha256();
+        operationNodes.forEach(node -> digest.update(canonical(node)));
+        referencedNodes.forEach((ref, node) -> {
+            digest.update(ref.getBytes(StandardCharsets.UTF_8));
+            digest.update(canonical(node));
+        });
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static byte[] canonical(JsonNode node) {
+        if (node.isMissingNode()) {
+            return new byte[0];
+        }
+        try {
+            return CANONICAL_MAPPER.writeValueAsBytes(CANONICAL_MAPPER.treeToValue(node, Object.class));
+        } catch (JsonProcessingException e) {
+            LOGGER.debug("Unable to serialize node, using its default representation: {}", e.getMessage());
+            return node.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
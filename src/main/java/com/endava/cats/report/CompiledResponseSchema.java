@@ -0,0 +1,126 @@
+package com.endava.cats.report;
+
+import com.endava.cats.json.JsonUtils;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the documented responses for an operation and response code compiled into the set of fields each of them contains.
+ * It's compiled once and then used to validate all the received responses in a single pass over the already parsed body.
+ */
+class CompiledResponseSchema {
+    private static final String ROOT = "ROOT";
+    private final List<ExpectedResponse> expectedResponses;
+
+    private CompiledResponseSchema(List<ExpectedResponse> expectedResponses) {
+        this.expectedResponses = expectedResponses;
+    }
+
+    static CompiledResponseSchema compile(List<String> responses) {
+        return new CompiledResponseSchema(responses.stream().map(ExpectedResponse::compile).toList());
+    }
+
+    /**
+     * Checks if the given response body matches at least one of the documented responses.
+     * If there is no match, the result will contain the fields not matching the closest documented response.
+     *
+     * @param body                 the parsed response body
+     * @param additionalProperties names of the objects which accept any property
+     * @return the result of the match
+     */
+    MatchResult match(JsonElement body, Collection<String> additionalProperties) {
+        MatchResult closest = MatchResult.NOT_MATCHING;
+        for (ExpectedResponse expectedResponse : expectedResponses) {
+            MatchResult result = expectedResponse.match(body, additionalProperties);
+            if (result.matches()) {
+                return result;
+            }
+            if (closest == MatchResult.NOT_MATCHING || result.unmatchedFields().size() < closest.unmatchedFields().size()) {
+                closest = result;
+            }
+        }
+        return closest;
+    }
+
+    record MatchResult(boolean matches, List<String> unmatchedFields) {
+        static final MatchResult MATCHING = new MatchResult(true, Collections.emptyList());
+        static final MatchResult NOT_MATCHING = new MatchResult(false, Collections.emptyList());
+    }
+
+    private record ExpectedResponse(boolean matchesAnyObject, boolean array, boolean plainValue, Set<String> fields) {
+
+        static ExpectedResponse compile(String response) {
+            if (response == null || response.isEmpty()) {
+                return new ExpectedResponse(true, false, false, Collections.emptySet());
+            }
+            try {
+                JsonElement element = JsonUtils.parseAsJsonElement(response);
+                Set<String> fields = new HashSet<>();
+                collectFields(element, fields);
+                return new ExpectedResponse(false, element.isJsonArray(), isPlainValue(element), fields);
+            } catch (JsonParseException e) {
+                return new ExpectedResponse(false, false, false, Collections.emptySet());
+            }
+        }
+
+        /**
+         * Plain values, such as text responses, have no fields. These only match documented responses which are plain values too.
+         */
+        private static boolean isPlainValue(JsonElement element) {
+            return !element.isJsonObject() && !element.isJsonArray();
+        }
+
+        private static void collectFields(JsonElement element, Set<String> fields) {
+            if (element.isJsonObject()) {
+                for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                    fields.add(entry.getKey().toLowerCase(Locale.ROOT));
+                    collectFields(entry.getValue(), fields);
+                }
+            } else if (element.isJsonArray()) {
+                element.getAsJsonArray().forEach(item -> collectFields(item, fields));
+            }
+        }
+
+        MatchResult match(JsonElement body, Collection<String> additionalProperties) {
+            if (isPlainValue(body)) {
+                return plainValue ? MatchResult.MATCHING : MatchResult.NOT_MATCHING;
+            }
+            JsonElement toMatch = body;
+            if (body.isJsonArray()) {
+                JsonArray jsonArray = body.getAsJsonArray();
+                if (jsonArray.isEmpty()) {
+                    return array ? MatchResult.MATCHING : MatchResult.NOT_MATCHING;
+                }
+                toMatch = jsonArray.get(0);
+            }
+            List<String> unmatchedFields = new ArrayList<>();
+            this.collectUnmatchedFields(toMatch, ROOT, "", additionalProperties, unmatchedFields);
+
+            return unmatchedFields.isEmpty() ? MatchResult.MATCHING : new MatchResult(false, unmatchedFields);
+        }
+
+        private void collectUnmatchedFields(JsonElement element, String name, String prefix, Collection<String> additionalProperties, List<String> unmatchedFields) {
+            if (element.isJsonObject()) {
+                if (matchesAnyObject || additionalProperties.contains(name)) {
+                    return;
+                }
+                for (Map.Entry<String, JsonElement> inner : element.getAsJsonObject().entrySet()) {
+                    String fieldPath = prefix.isEmpty() ? inner.getKey() : prefix + "#" + inner.getKey();
+                    this.collectUnmatchedFields(inner.getValue(), inner.getKey(), fieldPath, additionalProperties, unmatchedFields);
+                }
+            } else if (!fields.contains(name.toLowerCase(Locale.ROOT))) {
+                unmatchedFields.add(prefix.isEmpty() ? name : prefix);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.endava.cats.report;
+
+import com.endava.cats.json.JsonUtils;
+import com.endava.cats.model.CatsTestCaseSummary;
+import com.endava.cats.model.CatsTestReport;
+import com.endava.cats.util.ConsoleUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Results of a previous run, loaded from its {@code cats-summary-report.json}, used to decide the order in which paths and fuzzers are run.
+ * Paths and fuzzers are ordered by their historical error and warning rate and then by their average response time, both descending.
+ * Paths and fuzzers without any history are run first, as nothing is known about them.
+ */
+public class ExecutionHistory {
+    private final Map<String, Stats> pathStats;
+    private final Map<String, Stats> pathAndFuzzerStats;
+
+    ExecutionHistory(List<CatsTestCaseSummary> testCases) {
+        this.pathStats = new HashMap<>();
+        this.pathAndFuzzerStats = new HashMap<>();
+        for (CatsTestCaseSummary testCase : testCases) {
+            Stats current = Stats.of(testCase);
+            pathStats.merge(String.valueOf(testCase.getPath()), current, Stats::add);
+            pathAndFuzzerStats.merge(pathAndFuzzerKey(testCase.getPath(), testCase.getFuzzer()), current, Stats::add);
+        }
+    }
+
+    /**
+     * Loads the execution history from a {@code cats-summary-report.json} file.
+     *
+     * @param summaryReport the summary report of a previous run
+     * @return the execution history of the previous run
+     * @throws IOException if the file cannot be read
+     */
+    public static ExecutionHistory load(File summaryReport) throws IOException {
+        CatsTestReport report = JsonUtils.GSON.fromJson(Files.readString(summaryReport.toPath()), CatsTestReport.class);
+        List<CatsTestCaseSummary> testCases = Optional.ofNullable(report).map(CatsTestReport::getTestCases).orElse(Collections.emptyList());
+
+        return new ExecutionHistory(testCases);
+    }
+
+    public int size() {
+        return pathStats.size();
+    }
+
+    public Comparator<String> pathComparator() {
+        return Comparator.comparing(path -> pathStats.get(path), Stats.PRIORITY);
+    }
+
+    /**
+     * Orders fuzzers for the given path. Fuzzers are matched by their name as displayed in the report.
+     *
+     * @param path the contract path
+     * @return a comparator ordering fuzzer names by priority
+     */
+    public Comparator<String> fuzzerComparator(String path) {
+        return Comparator.comparing(fuzzer -> pathAndFuzzerStats.get(pathAndFuzzerKey(path, ConsoleUtils.removeTrimSanitize(fuzzer))), Stats.PRIORITY);
+    }
+
+    private static String pathAndFuzzerKey(String path, String fuzzer) {
+        return path + " " + fuzzer;
+    }
+
+    record Stats(int tests, int failures, double totalTimeInSec) {
+        private static final Set<String> FAILED_RESULTS = Set.of("error", "warn", "warning");
+        static final Comparator<Stats> PRIORITY = Comparator.nullsFirst(Comparator.comparingDouble(Stats::failureRate)
+                .thenComparingDouble(Stats::averageTimeInSec).reversed());
+
+        static Stats of(CatsTestCaseSummary testCase) {
+            boolean failed = FAILED_RESULTS.contains(String.valueOf(testCase.getResult()).toLowerCase(Locale.ROOT));
+            return new Stats(1, failed ? 1 : 0, testCase.getTimeToExecuteInSec());
+        }
+
+        Stats add(Stats other) {
+            return new Stats(tests + other.tests, failures + other.failures, totalTimeInSec + other.totalTimeInSec);
+        }
+
+        double failureRate() {
+            return (double) failures / tests;
+        }
+
+        double averageTimeInSec() {
+            return totalTimeInSec / tests;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.endava.cats.report;
 
 import com.endava.cats.annotations.DryRun;
+import com.endava.cats.model.CatsTestCase;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @ApplicationScoped
 @Getter
@@ -17,31 +23,58 @@ public class ExecutionStatisticsListener {
 
     private int authErrors;
     private int ioErrors;
+    private int reusedResponses;
 
-    public void increaseAuthErrors() {
+    @Getter(AccessLevel.PACKAGE)
+    private final Map<TestOutcome, LongAdder> testOutcomes = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.PACKAGE)
+    private final Map<String, LatencyHistogram> responseTimes = new ConcurrentHashMap<>();
+
+    public synchronized void increaseAuthErrors() {
         this.authErrors++;
     }
 
-    public void increaseIoErrors() {
+    public synchronized void increaseIoErrors() {
         this.ioErrors++;
     }
 
-    public void increaseSkipped() {
+    public synchronized void increaseReusedResponses() {
+        this.reusedResponses++;
+    }
+
+    public synchronized void increaseSkipped() {
         this.skipped++;
     }
 
-    public void increaseErrors() {
+    public synchronized void increaseErrors() {
         this.errors++;
     }
 
-    public void increaseWarns() {
+    public synchronized void increaseWarns() {
         this.warns++;
     }
 
-    public void increaseSuccess() {
+    public synchronized void increaseSuccess() {
         this.success++;
     }
 
+    /**
+     * Records the outcome of a finished test case, grouped by fuzzer, result and response code.
+     * The response time is recorded only for test cases which actually got a response from the service.
+     * Responses reused from identical requests are not recorded again, as they are counted in {@code reusedResponses}.
+     *
+     * @param testCase the finished test case
+     */
+    public void recordTestCase(CatsTestCase testCase) {
+        String fuzzer = Optional.ofNullable(testCase.getFuzzer()).orElse("unknown");
+        String result = Optional.ofNullable(testCase.getResult()).orElse("unknown");
+        testOutcomes.computeIfAbsent(new TestOutcome(fuzzer, result, testCase.getResponse().responseCodeAsString()), key -> new LongAdder()).increment();
+
+        if (testCase.notIgnoredForExecutionStatistics()) {
+            responseTimes.computeIfAbsent(fuzzer, key -> new LatencyHistogram()).record(testCase.getResponse().getResponseTimeInMs());
+        }
+    }
+
     public int getAll() {
         return this.success + this.warns + this.errors;
     }
@@ -54,4 +87,7 @@ public class ExecutionStatisticsListener {
         return ioErrors > this.getAll() / 2;
     }
 
+    record TestOutcome(String fuzzer, String result, String responseCode) {
+    }
+
 }
@@ -0,0 +1,89 @@
+package com.endava.cats.report;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative histogram of response times with fixed buckets, safe to update from multiple threads.
+ */
+class LatencyHistogram {
+    static final long[] BUCKETS_IN_MS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final LongAdder[] bucketCounts = new LongAdder[BUCKETS_IN_MS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumInMs = new LongAdder();
+
+    LatencyHistogram() {
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+
+    void record(long responseTimeInMs) {
+        int bucket = 0;
+        while (bucket < BUCKETS_IN_MS.length && responseTimeInMs > BUCKETS_IN_MS[bucket]) {
+            bucket++;
+        }
+        bucketCounts[bucket].increment();
+        count.increment();
+        sumInMs.add(responseTimeInMs);
+    }
+
+    /**
+     * Returns the number of observations less than or equal to each bucket bound. The last element is the {@code +Inf} bucket.
+     *
+     * @return cumulative counts for each bucket
+     */
+    long[] getCumulativeCounts() {
+        long[] cumulative = new long[bucketCounts.length];
+        long running = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            running += bucketCounts[i].sum();
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Estimates the given quantile over all supplied histograms, interpolating linearly inside the matching bucket.
+     * Observations larger than the last bucket bound are reported as the last bucket bound.
+     *
+     * @param histograms the histograms to merge
+     * @param quantile   the quantile to estimate, between 0 and 1
+     * @return the estimated response time in milliseconds or 0 if there are no observations
+     */
+    static long estimateQuantile(Collection<LatencyHistogram> histograms, double quantile) {
+        long[] merged = new long[BUCKETS_IN_MS.length + 1];
+        for (LatencyHistogram histogram : histograms) {
+            long[] cumulative = histogram.getCumulativeCounts();
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] += cumulative[i];
+            }
+        }
+        long total = merged[merged.length - 1];
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        int bucket = 0;
+        while (merged[bucket] < rank) {
+            bucket++;
+        }
+        if (bucket == BUCKETS_IN_MS.length) {
+            return BUCKETS_IN_MS[BUCKETS_IN_MS.length - 1];
+        }
+        long lowerBound = bucket == 0 ? 0 : BUCKETS_IN_MS[bucket - 1];
+        long previousCount = bucket == 0 ? 0 : merged[bucket - 1];
+        long bucketCount = merged[bucket] - previousCount;
+
+        return lowerBound + (BUCKETS_IN_MS[bucket] - lowerBound) * (rank - previousCount) / bucketCount;
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getSumInMs() {
+        return sumInMs.sum();
+    }
+}
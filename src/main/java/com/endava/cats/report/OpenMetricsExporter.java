@@ -0,0 +1,128 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.io.ServiceCaller;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Periodically writes run metrics to the file supplied in {@code --metricsFile} using the Prometheus text format,
+ * so that they can be picked up by a node-exporter textfile collector and graphed next to the service metrics.
+ * The file is written to a temporary file and then moved, so collectors never read a partially written file.
+ */
+@ApplicationScoped
+public class OpenMetricsExporter {
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(OpenMetricsExporter.class);
+    private final ExecutionStatisticsListener executionStatisticsListener;
+    private final ServiceCaller serviceCaller;
+    private final ReportingArguments reportingArguments;
+    private ScheduledExecutorService scheduler;
+
+    public OpenMetricsExporter(ExecutionStatisticsListener executionStatisticsListener, ServiceCaller serviceCaller, ReportingArguments reportingArguments) {
+        this.executionStatisticsListener = executionStatisticsListener;
+        this.serviceCaller = serviceCaller;
+        this.reportingArguments = reportingArguments;
+    }
+
+    /**
+     * Starts writing the metrics file at every {@code --metricsInterval} seconds. Does nothing if {@code --metricsFile} is not supplied.
+     */
+    public void start() {
+        if (reportingArguments.getMetricsFile() == null) {
+            return;
+        }
+        logger.config("Writing metrics to {} every {} seconds", reportingArguments.getMetricsFile(), reportingArguments.getMetricsInterval());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cats-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::writeMetrics, reportingArguments.getMetricsInterval(), reportingArguments.getMetricsInterval(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic writes and writes the final metrics of the run.
+     */
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        this.writeMetrics();
+    }
+
+    void writeMetrics() {
+        Path metricsFile = reportingArguments.getMetricsFile().toPath().toAbsolutePath();
+        Path tempFile = metricsFile.resolveSibling(metricsFile.getFileName() + ".tmp");
+        try {
+            Files.writeString(tempFile, this.renderMetrics());
+            Files.move(tempFile, metricsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Unable to write metrics file {}: {}", metricsFile, e.getMessage());
+            logger.debug("Stacktrace", e);
+        }
+    }
+
+    String renderMetrics() {
+        StringBuilder metrics = new StringBuilder();
+
+        metrics.append("# HELP cats_tests_total Number of executed tests by fuzzer, result and response code.\n");
+        metrics.append("# TYPE cats_tests_total counter\n");
+        for (Map.Entry<ExecutionStatisticsListener.TestOutcome, LongAdder> entry : executionStatisticsListener.getTestOutcomes().entrySet()) {
+            ExecutionStatisticsListener.TestOutcome outcome = entry.getKey();
+            metrics.append("cats_tests_total{fuzzer=\"").append(escape(outcome.fuzzer()))
+                    .append("\",result=\"").append(escape(outcome.result()))
+                    .append("\",status=\"").append(escape(outcome.responseCode()))
+                    .append("\"} ").append(entry.getValue().sum()).append('\n');
+        }
+
+        metrics.append("# HELP cats_response_time_seconds Response time of the service by fuzzer.\n");
+        metrics.append("# TYPE cats_response_time_seconds histogram\n");
+        for (Map.Entry<String, LatencyHistogram> entry : executionStatisticsListener.getResponseTimes().entrySet()) {
+            String fuzzer = escape(entry.getKey());
+            long[] cumulativeCounts = entry.getValue().getCumulativeCounts();
+            for (int i = 0; i < cumulativeCounts.length; i++) {
+                String bound = i < LatencyHistogram.BUCKETS_IN_MS.length ? toSeconds(LatencyHistogram.BUCKETS_IN_MS[i]) : "+Inf";
+                metrics.append("cats_response_time_seconds_bucket{fuzzer=\"").append(fuzzer).append("\",le=\"").append(bound)
+                        .append("\"} ").append(cumulativeCounts[i]).append('\n');
+            }
+            metrics.append("cats_response_time_seconds_sum{fuzzer=\"").append(fuzzer).append("\"} ").append(toSeconds(entry.getValue().getSumInMs())).append('\n');
+            metrics.append("cats_response_time_seconds_count{fuzzer=\"").append(fuzzer).append("\"} ").append(entry.getValue().getCount()).append('\n');
+        }
+
+        metrics.append("# HELP cats_reused_responses_total Number of responses reused from identical requests instead of calling the service.\n");
+        metrics.append("# TYPE cats_reused_responses_total counter\n");
+        metrics.append("cats_reused_responses_total ").append(executionStatisticsListener.getReusedResponses()).append('\n');
+
+        metrics.append("# HELP cats_in_flight_requests Number of requests currently waiting for a response.\n");
+        metrics.append("# TYPE cats_in_flight_requests gauge\n");
+        metrics.append("cats_in_flight_requests ").append(serviceCaller.getInFlightRequests()).append('\n');
+
+        metrics.append("# HELP cats_rate_limit_requests_per_second Rate currently allowed by the rate limiter.\n");
+        metrics.append("# TYPE cats_rate_limit_requests_per_second gauge\n");
+        metrics.append("cats_rate_limit_requests_per_second ").append(serviceCaller.getRequestsPerSecondLimit()).append('\n');
+
+        return metrics.toString();
+    }
+
+    private static String toSeconds(long millis) {
+        return BigDecimal.valueOf(millis, 3).stripTrailingZeros().toPlainString();
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,129 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.fusesource.jansi.Ansi.ansi;
+
+/**
+ * Periodically displays the progress of a run: completed paths and tests, request throughput, p95 latency and an ETA.
+ * When running in a terminal, the progress is displayed as a single line which is rewritten in place.
+ * Otherwise, a plain log line is printed at every {@code --progressInterval} seconds.
+ * <p>
+ * The total number of tests is not known upfront, so it is extrapolated from the average number of tests per completed path.
+ * Throughput and latency are computed from the requests actually sent to the service. Tests reusing the response
+ * of an identical request are counted as tests, but not as requests.
+ */
+@ApplicationScoped
+public class ProgressReporter {
+    private final PrettyLogger logger = PrettyLoggerFactory.getConsoleLogger();
+    private final ExecutionStatisticsListener executionStatisticsListener;
+    private final ReportingArguments reportingArguments;
+    private final AtomicInteger completedPaths = new AtomicInteger();
+    private final boolean interactive;
+    private ScheduledExecutorService scheduler;
+    private int totalPaths;
+    private long startTime;
+    private long lastTickTime;
+    private long lastTickRequests;
+
+    public ProgressReporter(ExecutionStatisticsListener executionStatisticsListener, ReportingArguments reportingArguments) {
+        this.executionStatisticsListener = executionStatisticsListener;
+        this.reportingArguments = reportingArguments;
+        this.interactive = System.console() != null;
+    }
+
+    /**
+     * Starts displaying progress, if {@code --progress} is enabled.
+     *
+     * @param numberOfPaths the number of paths that will be fuzzed
+     */
+    public void start(int numberOfPaths) {
+        this.totalPaths = numberOfPaths;
+        this.completedPaths.set(0);
+        this.startTime = System.currentTimeMillis();
+        this.lastTickTime = startTime;
+        this.lastTickRequests = 0;
+        if (!reportingArguments.isProgress()) {
+            return;
+        }
+        long interval = interactive ? 1 : reportingArguments.getProgressInterval();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cats-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::displayProgress, interval, interval, TimeUnit.SECONDS);
+    }
+
+    public void pathCompleted() {
+        completedPaths.incrementAndGet();
+    }
+
+    /**
+     * Stops displaying progress and prints the final progress line.
+     */
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        this.displayProgress();
+        if (interactive) {
+            System.err.println();
+        }
+    }
+
+    private void displayProgress() {
+        String progress = this.renderProgress(System.currentTimeMillis());
+        if (interactive) {
+            PrintStream console = System.err;
+            console.print("\r" + ansi().eraseLine().fgBrightCyan().a(progress).reset());
+            console.flush();
+        } else {
+            logger.info(progress);
+        }
+    }
+
+    synchronized String renderProgress(long now) {
+        long tests = executionStatisticsListener.getTestOutcomes().values().stream().mapToLong(LongAdder::sum).sum();
+        long sentRequests = executionStatisticsListener.getResponseTimes().values().stream().mapToLong(LatencyHistogram::getCount).sum();
+        long p95 = LatencyHistogram.estimateQuantile(executionStatisticsListener.getResponseTimes().values(), 0.95);
+        int paths = completedPaths.get();
+
+        double currentRate = ratePerSecond(sentRequests - lastTickRequests, now - lastTickTime);
+        double averageRate = ratePerSecond(sentRequests, now - startTime);
+        lastTickTime = now;
+        lastTickRequests = sentRequests;
+
+        String estimatedTests = "?";
+        String eta = "?";
+        if (paths > 0) {
+            estimatedTests = String.valueOf(Math.max(tests, tests * totalPaths / paths));
+            eta = formatDuration((now - startTime) * (totalPaths - paths) / paths);
+        }
+
+        return String.format(Locale.ROOT, "Paths %d/%d | Tests %d/~%s | %.1f req/s (avg %.1f req/s) | p95 %d ms | Elapsed %s | ETA %s",
+                paths, totalPaths, tests, estimatedTests, currentRate, averageRate, p95, formatDuration(now - startTime), eta);
+    }
+
+    private static double ratePerSecond(long count, long durationInMs) {
+        return durationInMs <= 0 ? 0 : count * 1000.0 / durationInMs;
+    }
+
+    private static String formatDuration(long millis) {
+        return Duration.ofSeconds(millis / 1000).toString().toLowerCase(Locale.ROOT).substring(2);
+    }
+}
@@ -8,6 +8,7 @@ import com.endava.cats.model.CatsTestCaseSummary;
 import com.endava.cats.model.CatsTestReport;
 import com.endava.cats.model.TimeExecution;
 import com.endava.cats.model.TimeExecutionDetails;
+import com.endava.cats.openapi.OpenApiFingerprints;
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
@@ -58,6 +59,7 @@ public abstract class TestCaseExporter {
     private static final String REPORT_JS = "cats-summary-report.json";
 
     private static final String EXECUTION_TIME_REPORT = "execution_times.json";
+    private static final String FINGERPRINTS_REPORT = "cats-fingerprints.json";
     private static final String HTML = ".html";
     private static final String JSON = ".json";
     private static final Mustache TEST_CASE_MUSTACHE = mustacheFactory.compile("test-case.mustache");
@@ -181,6 +183,9 @@ public abstract class TestCaseExporter {
         String duration = Duration.ofMillis(System.currentTimeMillis() - t0).toString().toLowerCase(Locale.ROOT).substring(2);
 
         logger.star(finalMessage, duration, executionStatisticsListener.getAll(), executionStatisticsListener.getSuccess(), executionStatisticsListener.getWarns(), executionStatisticsListener.getErrors(), executionStatisticsListener.getSkipped());
+        if (executionStatisticsListener.getReusedResponses() > 0) {
+            logger.star("{} duplicate requests were not sent, the response of the first identical request was reused", executionStatisticsListener.getReusedResponses());
+        }
     }
 
 
@@ -192,6 +197,7 @@ public abstract class TestCaseExporter {
         context.put("SUCCESS", report.getSuccess());
         context.put("ERRORS", report.getErrors());
         context.put("TOTAL", report.getTotalTests());
+        context.put("REUSED_RESPONSES", report.getReusedResponses() > 0 ? report.getReusedResponses() : null);
         context.put("TIMESTAMP", report.getTimestamp());
         context.put("TEST_CASES", report.getTestCases());
         context.put("EXECUTION", Duration.ofSeconds(report.getExecutionTime()).toString().toLowerCase(Locale.ROOT).substring(2));
@@ -218,11 +224,26 @@ public abstract class TestCaseExporter {
 
         return CatsTestReport.builder().testCases(summaries).errors(executionStatisticsListener.getErrors())
                 .success(executionStatisticsListener.getSuccess()).totalTests(executionStatisticsListener.getAll())
-                .warnings(executionStatisticsListener.getWarns()).timestamp(OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME))
+                .warnings(executionStatisticsListener.getWarns()).reusedResponses(executionStatisticsListener.getReusedResponses()).timestamp(OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME))
                 .executionTime(((System.currentTimeMillis() - t0) / 1000))
                 .catsVersion(this.version).build();
     }
 
+    /**
+     * Writes the operation fingerprints of the current contract so that they can be supplied as {@code --incrementalFrom} in subsequent runs.
+     *
+     * @param fingerprints the fingerprint of each contract operation
+     */
+    public void writeOperationFingerprints(Map<String, String> fingerprints) {
+        try {
+            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), FINGERPRINTS_REPORT), JsonUtils.GSON.toJson(Map.of(OpenApiFingerprints.FINGERPRINTS, fingerprints)));
+        } catch (IOException e) {
+            logger.warning("There was an issue writing the {}: {}. Please check if CATS has proper right to write in the report location: {}",
+                    FINGERPRINTS_REPORT, e.getMessage(), reportingPath.toFile().getAbsolutePath());
+            logger.debug(STACKTRACE, e);
+        }
+    }
+
     public void writeHelperFiles() {
         try {
             writeAssets();
@@ -4,9 +4,11 @@ import com.endava.cats.annotations.DryRun;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.exception.CatsCircuitOpenException;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.http.ResponseCodeFamily;
+import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsResult;
@@ -14,10 +16,9 @@ import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
-import com.google.gson.stream.JsonReader;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -30,16 +31,15 @@ import org.slf4j.event.Level;
 import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
-import java.io.StringReader;
-import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Deque;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -60,7 +60,8 @@ public class TestCaseListener {
     private static final String DEFAULT_ERROR = "####";
     private static final List<String> NOT_NECESSARILY_DOCUMENTED = Arrays.asList("406", "415", "414");
     public static final String RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING = "Received response is marked as ignored... skipping!";
-    protected final Map<String, CatsTestCase> testCaseMap = new HashMap<>();
+    protected final Map<String, CatsTestCase> testCaseMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<ResponseSchemaKey, CompiledResponseSchema> compiledResponseSchemas = new ConcurrentHashMap<>();
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseListener.class);
     private final ExecutionStatisticsListener executionStatisticsListener;
     private final TestCaseExporter testCaseExporter;
@@ -107,8 +108,10 @@ public class TestCaseListener {
         this.startTestCase();
         try {
             s.run();
+        } catch (CatsCircuitOpenException e) {
+            this.skipTest(externalLogger, e.getMessage());
         } catch (Exception e) {
-            CatsResult catsResult = CatsResult.EXCEPTION
+            CatsResult.Details catsResult = CatsResult.EXCEPTION
                     .withDocumentedResponseCodes(Optional.ofNullable(e.getMessage()).orElse(""))
                     .withExpectedResponseCodes(fuzzer.getClass().getSimpleName());
             this.reportResultError(externalLogger, FuzzingData.builder().path(DEFAULT_ERROR).contractPath(DEFAULT_ERROR).build(), catsResult.getReason(), catsResult.getMessage());
@@ -164,6 +167,7 @@ public class TestCaseListener {
 
     private void endTestCase() {
         testCaseMap.get(MDC.get(ID)).setFuzzer(MDC.get(FUZZER_KEY));
+        executionStatisticsListener.recordTestCase(testCaseMap.get(MDC.get(ID)));
         if (testCaseMap.get(MDC.get(ID)).isNotSkipped()) {
             testCaseExporter.writeTestCase(testCaseMap.get(MDC.get(ID)));
         }
@@ -196,6 +200,38 @@ public class TestCaseListener {
         testCaseExporter.writeHelperFiles();
     }
 
+    public void writeOperationFingerprints(Map<String, String> fingerprints) {
+        testCaseExporter.writeOperationFingerprints(fingerprints);
+    }
+
+    /**
+     * Adds a test case executed by another CATS process, for example a shard of a sharded run.
+     * The test case receives the next test id, so that ids stay unique across all added test cases, and it is written in the report folder.
+     *
+     * @param testCase the test case loaded from the report folder of another run
+     */
+    public void addMergedTestCase(CatsTestCase testCase) {
+        String testId = "Test " + TEST.incrementAndGet();
+        testCase.setTestId(testId);
+        testCaseMap.put(testId, testCase);
+
+        switch (String.valueOf(testCase.getResult())) {
+            case "success" -> executionStatisticsListener.increaseSuccess();
+            case "warn" -> executionStatisticsListener.increaseWarns();
+            case "error" -> executionStatisticsListener.increaseErrors();
+            default -> executionStatisticsListener.increaseSkipped();
+        }
+        executionStatisticsListener.recordTestCase(testCase);
+        testCaseExporter.writeTestCase(testCase);
+    }
+
+    /**
+     * Records that the response of a previous identical request was reused instead of calling the service again.
+     */
+    public void recordReusedResponse() {
+        executionStatisticsListener.increaseReusedResponses();
+    }
+
     public void endSession() {
         testCaseExporter.writeSummary(testCaseMap, executionStatisticsListener);
         testCaseExporter.writeHelperFiles();
@@ -203,7 +239,7 @@ public class TestCaseListener {
         testCaseExporter.printExecutionDetails(executionStatisticsListener);
     }
 
-    private void setResultReason(CatsResult catsResult) {
+    private void setResultReason(CatsResult.Details catsResult) {
         CatsTestCase testCase = testCaseMap.get(MDC.get(ID));
         testCase.setResultReason(catsResult.getReason());
     }
@@ -242,7 +278,7 @@ public class TestCaseListener {
         }
     }
 
-    private void reportWarnOrInfoBasedOnCheck(PrettyLogger logger, FuzzingData data, CatsResult catsResult, boolean ignoreCheck, Object... params) {
+    private void reportWarnOrInfoBasedOnCheck(PrettyLogger logger, FuzzingData data, CatsResult.Details catsResult, boolean ignoreCheck, Object... params) {
         if (ignoreCheck) {
             this.reportInfo(logger, catsResult, params);
             setResultReason(catsResult);
@@ -256,7 +292,7 @@ public class TestCaseListener {
         setResultReason(reason);
     }
 
-    private void reportError(PrettyLogger logger, CatsResult catsResult, Object... params) {
+    private void reportError(PrettyLogger logger, CatsResult.Details catsResult, Object... params) {
         this.reportError(logger, catsResult.getMessage(), params);
         setResultReason(catsResult);
     }
@@ -328,7 +364,7 @@ public class TestCaseListener {
         }
     }
 
-    private void reportInfo(PrettyLogger logger, CatsResult catsResult, Object... params) {
+    private void reportInfo(PrettyLogger logger, CatsResult.Details catsResult, Object... params) {
         this.reportInfo(logger, catsResult.getMessage(), params);
     }
 
@@ -342,7 +378,8 @@ public class TestCaseListener {
     }
 
     public void reportResult(PrettyLogger logger, FuzzingData data, CatsResponse response, ResponseCodeFamily expectedResultCode, boolean shouldMatchToResponseSchema) {
-        boolean matchesResponseSchema = !shouldMatchToResponseSchema || this.matchesResponseSchema(response, data);
+        CompiledResponseSchema.MatchResult schemaMatch = shouldMatchToResponseSchema ? this.matchResponseSchema(response, data) : CompiledResponseSchema.MatchResult.MATCHING;
+        boolean matchesResponseSchema = schemaMatch.matches();
         boolean responseCodeExpected = this.isResponseCodeExpected(response, expectedResultCode);
         boolean responseCodeDocumented = this.isResponseCodeDocumented(data, response);
 
@@ -358,10 +395,11 @@ public class TestCaseListener {
             this.reportInfo(logger, CatsResult.OK.withResponseCode(response.responseCodeAsString()));
         } else if (isNotFound(response)) {
             this.logger.debug("NOT_FOUND response");
-            this.reportError(logger, CatsResult.NOT_FOUND);
+            this.reportError(logger, CatsResult.NOT_FOUND.details());
         } else if (assertions.isResponseCodeExpectedAndDocumentedButDoesntMatchResponseSchema()) {
             this.logger.debug("Response code expected and documented and but doesn't match response schema");
-            this.reportWarnOrInfoBasedOnCheck(logger, data, CatsResult.NOT_MATCHING_RESPONSE_SCHEMA.withResponseCode(response.responseCodeAsString()), ignoreArguments.isIgnoreResponseBodyCheck());
+            this.reportWarnOrInfoBasedOnCheck(logger, data, CatsResult.NOT_MATCHING_RESPONSE_SCHEMA.withResponseCode(response.responseCodeAsString())
+                    .withUnmatchedFields(schemaMatch.unmatchedFields()), ignoreArguments.isIgnoreResponseBodyCheck());
         } else if (assertions.isResponseCodeExpectedButNotDocumented()) {
             this.logger.debug("Response code expected but not documented");
             this.reportWarnOrInfoBasedOnCheck(logger, data, CatsResult.UNDOCUMENTED_RESPONSE_CODE
@@ -380,15 +418,13 @@ public class TestCaseListener {
         }
     }
 
-    private void storeRequestOnPostOrRemoveOnDelete(FuzzingData data, CatsResponse response) {
+    private synchronized void storeRequestOnPostOrRemoveOnDelete(FuzzingData data, CatsResponse response) {
         if (data.getMethod() == HttpMethod.POST && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("POST method for path {} returned successfully {}. Storing result for DELETE endpoints...", data.getPath(), response.responseCodeAsString());
-            Deque<String> existingPosts = globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath(), new ArrayDeque<>());
-            existingPosts.add(response.getBody());
-            globalContext.getPostSuccessfulResponses().put(data.getPath(), existingPosts);
+            globalContext.getPostSuccessfulResponses().add(data.getPath(), response.getBody());
         } else if (data.getMethod() == HttpMethod.DELETE && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("Successful DELETE. Removing top POST request from the store...");
-            globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath().substring(0, data.getPath().lastIndexOf("/")), new ArrayDeque<>()).poll();
+            globalContext.getPostSuccessfulResponses().removeOldest(data.getPath().substring(0, data.getPath().lastIndexOf("/")));
         }
     }
 
@@ -423,7 +459,7 @@ public class TestCaseListener {
         storeSuccessfulDelete(testCase);
     }
 
-    void storeSuccessfulDelete(CatsTestCase testCase) {
+    synchronized void storeSuccessfulDelete(CatsTestCase testCase) {
         if (ResponseCodeFamily.is2xxCode(testCase.getResponse().getResponseCode()) && HttpMethod.DELETE.name().equalsIgnoreCase(testCase.getRequest().getHttpMethod())) {
             globalContext.getSuccessfulDeletes().add(testCase.getRequest().getUrl());
             logger.note("Storing successful DELETE: {}", testCase.getRequest().getUrl());
@@ -442,15 +478,33 @@ public class TestCaseListener {
         return expectedResultCode.matchesAllowedResponseCodes(response.responseCodeAsString());
     }
 
-    private boolean matchesResponseSchema(CatsResponse response, FuzzingData data) {
-        JsonReader reader = new JsonReader(new StringReader(response.getBody()));
-        reader.setLenient(true);
-        JsonElement jsonElement = JsonParser.parseReader(reader);
+    private CompiledResponseSchema.MatchResult matchResponseSchema(CatsResponse response, FuzzingData data) {
+        JsonElement jsonElement = getResponseBodyAsJson(response);
         List<String> responses = this.getExpectedResponsesByResponseCode(response, data);
-        return isActualResponseMatchingDocumentedResponses(response, jsonElement, responses)
-                || isResponseEmpty(response, responses)
-                || isNotTypicalDocumentedResponseCode(response)
-                || isEmptyArray(jsonElement);
+        if (isResponseEmpty(response, responses) || isNotTypicalDocumentedResponseCode(response) || isEmptyArray(jsonElement)) {
+            return CompiledResponseSchema.MatchResult.MATCHING;
+        }
+        return this.matchDocumentedResponses(new ResponseSchemaKey(data.getContractPath(), data.getMethod(), response.responseCodeAsString()), response, jsonElement, responses);
+    }
+
+    /**
+     * Non-JSON responses have their JSON body wrapped as {@code {"notAJson": "..."}}. These are parsed leniently from the raw body,
+     * so they are matched as received rather than as the wrapper.
+     */
+    private static JsonElement getResponseBodyAsJson(CatsResponse response) {
+        JsonElement jsonBody = response.getJsonBody();
+        if (jsonBody != null && !isNotAJsonWrapper(jsonBody)) {
+            return jsonBody;
+        }
+        try {
+            return JsonUtils.parseAsJsonElement(response.getBody());
+        } catch (JsonParseException e) {
+            return new JsonPrimitive(response.getBody());
+        }
+    }
+
+    private static boolean isNotAJsonWrapper(JsonElement jsonBody) {
+        return jsonBody.isJsonObject() && jsonBody.getAsJsonObject().size() == 1 && jsonBody.getAsJsonObject().has(JsonUtils.NOT_A_JSON);
     }
 
     private boolean isEmptyArray(JsonElement jsonElement) {
@@ -468,9 +522,19 @@ public class TestCaseListener {
         return responses;
     }
 
-    private boolean isActualResponseMatchingDocumentedResponses(CatsResponse response, JsonElement jsonElement, List<String> responses) {
-        return responses != null && responses.stream().anyMatch(responseSchema -> matchesElement(responseSchema, jsonElement))
-                && ((isErrorResponse(response) && isFuzzedFieldPresentInResponse(response)) || isNotErrorResponse(response));
+    /**
+     * Documented responses are compiled once per operation and response code and reused for all received responses.
+     */
+    private CompiledResponseSchema.MatchResult matchDocumentedResponses(ResponseSchemaKey key, CatsResponse response, JsonElement jsonElement, List<String> responses) {
+        if (responses == null) {
+            return CompiledResponseSchema.MatchResult.NOT_MATCHING;
+        }
+        CompiledResponseSchema.MatchResult result = compiledResponseSchemas.computeIfAbsent(key, ignored -> CompiledResponseSchema.compile(responses))
+                .match(jsonElement, globalContext.getAdditionalProperties());
+        if (result.matches() && isErrorResponse(response) && !isFuzzedFieldPresentInResponse(response)) {
+            return CompiledResponseSchema.MatchResult.NOT_MATCHING;
+        }
+        return result;
     }
 
     private boolean isErrorResponse(CatsResponse response) {
@@ -503,39 +567,7 @@ public class TestCaseListener {
         return body.trim().isEmpty() || body.trim().equalsIgnoreCase("[]") || body.trim().equalsIgnoreCase("{}");
     }
 
-    private boolean matchesElement(String responseSchema, JsonElement element) {
-        if (element.isJsonArray()) {
-            return matchesArrayElement(responseSchema, element);
-        }
-
-        return matchesSingleElement(responseSchema, element, "ROOT");
-    }
-
-    private boolean matchesArrayElement(String responseSchema, JsonElement element) {
-        JsonArray jsonArray = ((JsonArray) element);
-
-        if (jsonArray.size() == 0 && JsonParser.parseString(responseSchema).isJsonArray()) {
-            return true;
-        } else if (jsonArray.size() == 0) {
-            return false;
-        }
-
-        JsonElement firstElement = jsonArray.get(0);
-        return matchesSingleElement(responseSchema, firstElement, "ROOT");
-    }
-
-    private boolean matchesSingleElement(String responseSchema, JsonElement element, String name) {
-        boolean result = true;
-        if (element.isJsonObject() && globalContext.getAdditionalProperties().contains(name)) {
-            return true;
-        } else if (element.isJsonObject()) {
-            for (Map.Entry<String, JsonElement> inner : element.getAsJsonObject().entrySet()) {
-                result = result && matchesSingleElement(responseSchema, inner.getValue(), inner.getKey());
-            }
-        } else {
-            return responseSchema != null && responseSchema.toLowerCase(Locale.ROOT).contains(name.toLowerCase(Locale.ROOT));
-        }
-        return result || responseSchema == null || responseSchema.isEmpty();
+    private record ResponseSchemaKey(String contractPath, HttpMethod method, String responseCode) {
     }
 
     @Builder
@@ -1,6 +1,6 @@
 package com.endava.cats.strategy;
 
-import com.endava.cats.generator.simple.StringGenerator;
+import com.endava.cats.generator.simple.UnicodeGenerator;
 import com.endava.cats.model.FuzzingData;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
@@ -156,12 +156,7 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
     }
 
     public static List<FuzzingStrategy> getLargeValuesStrategy(int largeStringsSize) {
-        String generatedValue = StringGenerator.generateRandomUnicode();
-        int payloadSize = largeStringsSize / generatedValue.length();
-        if (payloadSize == 0) {
-            return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(generatedValue.substring(0, largeStringsSize))));
-        }
-        return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(StringUtils.repeat(generatedValue, payloadSize + 1))));
+        return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(UnicodeGenerator.getLargeUnicodeString(largeStringsSize))));
     }
 
     public static String markLargeString(String input) {
@@ -0,0 +1,136 @@
+package com.endava.cats.util;
+
+import org.apache.commons.lang3.RandomStringUtils;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Holds the source of randomness used when generating values. By default, this is a {@code SecureRandom}.
+ * When a seed is supplied, generation switches to a fast non-cryptographic generator so that two runs
+ * with the same seed and contract produce the same values.
+ * <p>
+ * Work executed concurrently must run through {@link #runInWorkUnit(long, Runnable)}. Each work unit gets its own generator,
+ * derived only from the seed and the work unit id, so the values it generates do not depend on thread timing.
+ */
+public abstract class CatsRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final ThreadLocal<Random> WORK_UNIT_RANDOM = new ThreadLocal<>();
+    private static volatile Random random = new SecureRandom();
+    private static volatile Long seed;
+
+    private CatsRandom() {
+        //ntd
+    }
+
+    /**
+     * Initializes the random generator. If the seed is {@code null} a {@code SecureRandom} will be used.
+     *
+     * @param seed the seed used to initialize the random generator or null
+     */
+    public static void initRandom(Long seed) {
+        CatsRandom.seed = seed;
+        random = seed == null ? new SecureRandom() : new SeededRandom(seed);
+    }
+
+    /**
+     * Returns the generator of the current work unit, if any, or the global one otherwise.
+     *
+     * @return the current random generator
+     */
+    public static Random instance() {
+        Random workUnitRandom = WORK_UNIT_RANDOM.get();
+        return workUnitRandom != null ? workUnitRandom : random;
+    }
+
+    /**
+     * Runs the given task using a generator dedicated to the given work unit. When running with a seed, the generator is
+     * a child of the seeded generator derived from the work unit id, so the same work unit always gets the same values.
+     *
+     * @param workUnit a stable id of the work unit, like its index
+     * @param task     the task to run
+     */
+    public static void runInWorkUnit(long workUnit, Runnable task) {
+        Long currentSeed = seed;
+        Random previous = WORK_UNIT_RANDOM.get();
+        WORK_UNIT_RANDOM.set(currentSeed == null ? random : new SeededRandom(new SplittableRandom(currentSeed + (workUnit + 1) * GOLDEN_GAMMA).split()));
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                WORK_UNIT_RANDOM.remove();
+            } else {
+                WORK_UNIT_RANDOM.set(previous);
+            }
+        }
+    }
+
+    public static String randomAlphabetic(int count) {
+        return RandomStringUtils.random(count, 0, 0, true, false, null, instance());
+    }
+
+    public static String randomAlphanumeric(int count) {
+        return RandomStringUtils.random(count, 0, 0, true, true, null, instance());
+    }
+
+    public static String randomNumeric(int count) {
+        return RandomStringUtils.random(count, 0, 0, false, true, null, instance());
+    }
+
+    /**
+     * Generates a numeric string with a length between the given bounds.
+     *
+     * @param minLengthInclusive the minimum length
+     * @param maxLengthExclusive the maximum length, exclusive
+     * @return a random numeric string
+     */
+    public static String randomNumeric(int minLengthInclusive, int maxLengthExclusive) {
+        int length = minLengthInclusive >= maxLengthExclusive ? minLengthInclusive : minLengthInclusive + instance().nextInt(maxLengthExclusive - minLengthInclusive);
+        return randomNumeric(length);
+    }
+
+    /**
+     * Generates a string using characters from the whole Unicode range, like {@code RandomStringUtils.random(int)}.
+     *
+     * @param count the length of the string
+     * @return a random string
+     */
+    public static String random(int count) {
+        return RandomStringUtils.random(count, 0, 0, false, false, null, instance());
+    }
+
+    /**
+     * Generates a type 4 UUID using the current generator.
+     *
+     * @return a random UUID
+     */
+    public static UUID randomUUID() {
+        Random current = instance();
+        long mostSigBits = (current.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long leastSigBits = (current.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Adapts a {@code SplittableRandom} to the {@code Random} API expected by generator libraries.
+     * Access is synchronized as the same instance is shared across threads.
+     */
+    private static final class SeededRandom extends Random {
+        private final transient SplittableRandom splittableRandom;
+
+        SeededRandom(long seed) {
+            this(new SplittableRandom(seed));
+        }
+
+        SeededRandom(SplittableRandom splittableRandom) {
+            this.splittableRandom = splittableRandom;
+        }
+
+        @Override
+        protected synchronized int next(int bits) {
+            return splittableRandom.nextInt() >>> (32 - bits);
+        }
+    }
+}
@@ -75,10 +75,10 @@ public class CatsUtil {
      * @return a result with the payload replaced
      */
     public FuzzingResult justReplaceField(String payload, String jsonPropertyForReplacement, Object with) {
-        if (JsonUtils.isJsonArray(payload)) {
+        DocumentContext jsonDocument = JsonUtils.parseAsDocument(payload);
+        if (JsonUtils.isJsonArray(jsonDocument)) {
             jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
         }
-        DocumentContext jsonDocument = JsonPath.parse(payload);
         replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, with);
 
         return new FuzzingResult(jsonDocument.jsonString(), with);
@@ -87,11 +87,11 @@ public class CatsUtil {
     public FuzzingResult replaceField(String payload, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply, boolean mergeFuzzing) {
         if (StringUtils.isNotBlank(payload)) {
             String jsonPropToGetValue = jsonPropertyForReplacement;
-            if (JsonUtils.isJsonArray(payload)) {
+            DocumentContext jsonDocument = JsonUtils.parseAsDocument(payload);
+            if (JsonUtils.isJsonArray(jsonDocument)) {
                 jsonPropToGetValue = JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY + jsonPropertyForReplacement;
                 jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
             }
-            DocumentContext jsonDocument = JsonPath.parse(payload);
             Object oldValue = jsonDocument.read(JsonUtils.sanitizeToJsonPath(jsonPropToGetValue));
             if (oldValue instanceof JSONArray && !jsonPropToGetValue.contains("[*]")) {
                 oldValue = jsonDocument.read("$." + jsonPropToGetValue + "[0]");
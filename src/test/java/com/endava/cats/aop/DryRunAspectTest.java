@@ -0,0 +1,34 @@
+package com.endava.cats.aop;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class DryRunAspectTest {
+
+    @ParameterizedTest
+    @CsvSource({"600,60,0,600", "600,10000,0,4", "600,10000,100,60", "600,60,2000,1200", "0,60,100,0"})
+    void shouldEstimateDurationFromRateLimitAndLatency(int requests, int maxRequestsPerMinute, int latency, long expectedSeconds) {
+        Assertions.assertThat(DryRunAspect.estimateDuration(requests, maxRequestsPerMinute, latency)).isEqualTo(Duration.ofSeconds(expectedSeconds));
+    }
+
+    @Test
+    void shouldReturnTopContributorsSortedByNumberOfTests() {
+        Map<String, Integer> testsPerFuzzer = IntStream.range(0, 15).boxed()
+                .collect(Collectors.toMap(i -> "Fuzzer" + i, i -> i));
+
+        Assertions.assertThat(DryRunAspect.topContributors(testsPerFuzzer))
+                .hasSize(10)
+                .extracting(Map.Entry::getKey)
+                .startsWith("Fuzzer14", "Fuzzer13")
+                .endsWith("Fuzzer5");
+    }
+}
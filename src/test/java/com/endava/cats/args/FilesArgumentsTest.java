@@ -8,6 +8,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -110,6 +111,37 @@ class FilesArgumentsTest {
         org.assertj.core.api.Assertions.assertThat(filesArguments.getAdditionalQueryParamsForPath("/no-pets")).isEmpty();
     }
 
+    @Test
+    void shouldMatchPathIgnoringCaseAndReturnImmutableMap() throws Exception {
+        FilesArguments filesArguments = new FilesArguments();
+        ReflectionTestUtils.setField(filesArguments, "queryFile", new File("src/test/resources/queryParams.yml"));
+        filesArguments.loadQueryParams();
+        Map<String, Object> queryParams = filesArguments.getAdditionalQueryParamsForPath("/PETS");
+
+        org.assertj.core.api.Assertions.assertThat(queryParams).containsOnlyKeys("param", "jwt");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> queryParams.put("new", "value"));
+    }
+
+    @Test
+    void shouldOverrideEntriesInFileOrderWhenMergingPathAndAll() {
+        Map<String, Map<String, Object>> fromFile = new LinkedHashMap<>();
+        fromFile.put("all", Map.of("header", "all", "other", "all"));
+        fromFile.put("/pets", Map.of("header", "pets"));
+
+        Map<String, Map<String, Object>> merged = FilesArguments.mergePathsWithAll(fromFile);
+
+        org.assertj.core.api.Assertions.assertThat(FilesArguments.getPathAndAll(merged, "/pets")).containsOnly(Map.entry("header", "pets"), Map.entry("other", "all"));
+        org.assertj.core.api.Assertions.assertThat(FilesArguments.getPathAndAll(merged, "/other")).containsOnly(Map.entry("header", "all"), Map.entry("other", "all"));
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoFileLoaded() {
+        FilesArguments filesArguments = new FilesArguments();
+
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getHeaders("/pets")).isEmpty();
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getRefData("/pets")).isEmpty();
+    }
+
     @Test
     void shouldReturnEmptyUrlParams() {
         FilesArguments filesArguments = new FilesArguments();
@@ -18,6 +18,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @QuarkusTest
 class FilterArgumentsTest {
@@ -246,4 +247,32 @@ class FilterArgumentsTest {
         filterArguments.customFilter("FunctionalFuzzer");
         Assertions.assertThat(filterArguments.getFirstPhaseFuzzersForPath()).containsOnly("FunctionalFuzzer");
     }
+
+    @Test
+    void shouldAssignEachPathAndFuzzerToExactlyOneShard() {
+        List<FilterArguments> shards = IntStream.range(0, 3).mapToObj(index -> {
+            FilterArguments shard = new FilterArguments();
+            ReflectionTestUtils.setField(shard, "shardCount", 3);
+            ReflectionTestUtils.setField(shard, "shardIndex", index);
+            return shard;
+        }).toList();
+        int[] testsPerShard = new int[3];
+
+        for (int path = 0; path < 30; path++) {
+            for (int fuzzer = 0; fuzzer < 10; fuzzer++) {
+                String currentPath = "/path" + path;
+                String currentFuzzer = "Fuzzer" + fuzzer;
+                List<Integer> assignedShards = IntStream.range(0, 3).filter(index -> shards.get(index).isAssignedToCurrentShard(currentPath, currentFuzzer)).boxed().toList();
+                Assertions.assertThat(assignedShards).hasSize(1);
+                testsPerShard[assignedShards.get(0)]++;
+            }
+        }
+
+        Assertions.assertThat(IntStream.of(testsPerShard).boxed().toList()).allMatch(count -> count > 70 && count < 130);
+    }
+
+    @Test
+    void shouldAssignEverythingWhenNotSharded() {
+        Assertions.assertThat(new FilterArguments().isAssignedToCurrentShard("/path", "Fuzzer")).isTrue();
+    }
 }
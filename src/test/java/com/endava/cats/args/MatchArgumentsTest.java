@@ -162,4 +162,20 @@ class MatchArgumentsTest {
 
         Assertions.assertThat(matchArguments.isMatchResponse(catsResponse)).isTrue();
     }
+
+    @ParameterizedTest
+    @CsvSource({"0,100,true", "2,2,true", "2,3,false"})
+    void shouldReportClusterExamplesUpToLimit(int maxExamplesPerCluster, int positionInCluster, boolean expected) {
+        ReflectionTestUtils.setField(matchArguments, "maxExamplesPerCluster", maxExamplesPerCluster);
+
+        Assertions.assertThat(matchArguments.isReportedClusterExample(positionInCluster)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0,100,false", "3,2,false", "3,3,true"})
+    void shouldStopWhenEnoughClusters(int stopAfterClusters, int numberOfClusters, boolean expected) {
+        ReflectionTestUtils.setField(matchArguments, "stopAfterClusters", stopAfterClusters);
+
+        Assertions.assertThat(matchArguments.isStopConditionReached(numberOfClusters)).isEqualTo(expected);
+    }
 }
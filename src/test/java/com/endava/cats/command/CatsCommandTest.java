@@ -24,6 +24,7 @@ import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 import picocli.CommandLine;
 
+import java.io.File;
 import java.util.List;
 import java.util.concurrent.Future;
 
@@ -51,6 +52,7 @@ class CatsCommandTest {
         filterArguments = Mockito.mock(FilterArguments.class);
         ReflectionTestUtils.setField(catsMain, "filterArguments", filterArguments);
         Mockito.when(filterArguments.getHttpMethods()).thenReturn(HttpMethod.restMethods());
+        Mockito.when(filterArguments.isAssignedToCurrentShard(Mockito.anyString(), Mockito.anyString())).thenReturn(true);
     }
 
     @Test
@@ -134,6 +136,42 @@ class CatsCommandTest {
         ReflectionTestUtils.setField(apiArguments, "server", "empty");
     }
 
+    @Test
+    void shouldNotFuzzAnyPathWhenIncrementalFromSameContract() {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("HappyPathFuzzer"));
+        Mockito.when(filterArguments.getAllRegisteredFuzzers()).thenReturn(List.of(new HappyPathFuzzer(Mockito.mock(SimpleExecutor.class))));
+        Mockito.when(filterArguments.getIncrementalFrom()).thenReturn(new File("src/test/resources/petstore.yml"));
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        spyMain.run();
+
+        Mockito.verify(testCaseListener, Mockito.times(1)).writeOperationFingerprints(Mockito.anyMap());
+        Mockito.verify(fuzzingDataFactory, Mockito.times(0)).fromPathItem(Mockito.anyString(), Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(0)).afterFuzz();
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldFuzzOnlyChangedOperationsWhenIncrementalFromPreviousContract() {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("HappyPathFuzzer"));
+        Mockito.when(filterArguments.getAllRegisteredFuzzers()).thenReturn(List.of(new HappyPathFuzzer(Mockito.mock(SimpleExecutor.class))));
+        Mockito.when(filterArguments.getIncrementalFrom()).thenReturn(new File("src/test/resources/petstore-readonly.yml"));
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        spyMain.run();
+
+        Mockito.verify(fuzzingDataFactory, Mockito.times(1)).fromPathItem(Mockito.eq("/pets/{id}"), Mockito.any(), Mockito.any());
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
     @Test
     void givenContractAndServerParameter_whenStartingCats_thenParametersAreProcessedSuccessfully() throws Exception {
         ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
@@ -0,0 +1,96 @@
+package com.endava.cats.command;
+
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.report.TestCaseListener;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import picocli.CommandLine;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@QuarkusTest
+class MergeCommandTest {
+    private TestCaseListener testCaseListener;
+    private MergeCommand mergeCommand;
+
+    @BeforeEach
+    void setup() {
+        testCaseListener = Mockito.mock(TestCaseListener.class);
+        mergeCommand = new MergeCommand(testCaseListener);
+    }
+
+    @Test
+    void shouldMergeTestCasesFromAllShards(@TempDir Path tempDir) throws Exception {
+        Path firstShard = Files.createDirectories(tempDir.resolve("shard0"));
+        Path secondShard = Files.createDirectories(tempDir.resolve("shard1"));
+        String testCase = Files.readString(Path.of("src/test/resources/Test12.json"));
+        Files.writeString(firstShard.resolve("Test10.json"), testCase.replace("Test 12", "Test 10"));
+        Files.writeString(firstShard.resolve("Test2.json"), testCase.replace("Test 12", "Test 2"));
+        Files.writeString(secondShard.resolve("Test1.json"), testCase.replace("Test 12", "Test 1"));
+        Files.writeString(secondShard.resolve("cats-summary-report.json"), "{}");
+        mergeCommand.reportFolders = List.of(firstShard.toFile(), secondShard.toFile());
+        mergeCommand.outputReportFolder = tempDir.resolve("merged").toString();
+
+        mergeCommand.run();
+
+        ArgumentCaptor<CatsTestCase> testCases = ArgumentCaptor.forClass(CatsTestCase.class);
+        Mockito.verify(testCaseListener).initReportingPath(tempDir.resolve("merged").toString());
+        Mockito.verify(testCaseListener, Mockito.times(3)).addMergedTestCase(testCases.capture());
+        Mockito.verify(testCaseListener).endSession();
+        Assertions.assertThat(testCases.getAllValues()).extracting(CatsTestCase::getTestId)
+                .containsExactly("Test 2", "Test 10", "Test 1");
+        Assertions.assertThat(mergeCommand.getExitCode()).isZero();
+    }
+
+    @Test
+    void shouldNotMergeWhenOutputIsOneOfTheInputs(@TempDir Path tempDir) throws Exception {
+        File shard = tempDir.toFile();
+        mergeCommand.reportFolders = List.of(shard);
+        mergeCommand.outputReportFolder = shard.getAbsolutePath();
+
+        mergeCommand.run();
+
+        Mockito.verify(testCaseListener, Mockito.never()).initReportingPath(Mockito.anyString());
+        Mockito.verify(testCaseListener, Mockito.never()).endSession();
+        Assertions.assertThat(mergeCommand.getExitCode()).isEqualTo(MergeCommand.EXIT_CODE_ON_MERGE_FAILURE);
+    }
+
+    @Test
+    void shouldFailWhenTestCaseCannotBeRead(@TempDir Path tempDir) throws Exception {
+        Path shard = Files.createDirectories(tempDir.resolve("shard0"));
+        Files.createDirectories(shard.resolve("Test1.json"));
+        mergeCommand.reportFolders = List.of(shard.toFile());
+        mergeCommand.outputReportFolder = tempDir.resolve("merged").toString();
+
+        mergeCommand.run();
+
+        Mockito.verify(testCaseListener, Mockito.never()).endSession();
+        Assertions.assertThat(mergeCommand.getExitCode()).isEqualTo(MergeCommand.EXIT_CODE_ON_MERGE_FAILURE);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"missing", "Test1.json"})
+    void shouldRejectReportFolderWhichIsNotADirectory(String folderName, @TempDir Path tempDir) throws Exception {
+        Files.writeString(tempDir.resolve("Test1.json"), "{}");
+        CommandLine.Model.CommandSpec spec = Mockito.mock(CommandLine.Model.CommandSpec.class);
+        Mockito.when(spec.commandLine()).thenReturn(Mockito.mock(CommandLine.class));
+        ReflectionTestUtils.setField(mergeCommand, "spec", spec);
+        mergeCommand.reportFolders = List.of(tempDir.resolve(folderName).toFile());
+        mergeCommand.outputReportFolder = tempDir.resolve("merged").toString();
+
+        Assertions.assertThatThrownBy(() -> mergeCommand.run()).isInstanceOf(CommandLine.ParameterException.class)
+                .hasMessage("Report folder %s does not exist or is not a directory", tempDir.resolve(folderName));
+        Mockito.verify(testCaseListener, Mockito.never()).initReportingPath(Mockito.anyString());
+    }
+}
@@ -0,0 +1,99 @@
+package com.endava.cats.context;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@QuarkusTest
+class PostResponsesStoreTest {
+
+    @ParameterizedTest
+    @CsvSource({"petId,petid", "pet_id,petid", "PET-ID,petid", "id,id"})
+    void shouldNormalizeFieldNames(String fieldName, String expected) {
+        Assertions.assertThat(PostResponsesStore.normalize(fieldName)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldIndexTopLevelPrimitiveFields() {
+        PostResponsesStore store = new PostResponsesStore();
+        store.add("/pets", "{\"pet_id\": 10, \"name\": \"cat\", \"owner\": {\"id\": 2}, \"tags\": [\"a\"]}");
+
+        Assertions.assertThat(store.peek("/pets")).contains(Map.of("petid", "10", "name", "cat"));
+    }
+
+    @Test
+    void shouldNotIndexValuesLongerThanPathParameters() {
+        PostResponsesStore store = new PostResponsesStore();
+        String longValue = "a".repeat(PostResponsesStore.MAX_INDEXED_VALUE_LENGTH + 1);
+        String maxLengthValue = "b".repeat(PostResponsesStore.MAX_INDEXED_VALUE_LENGTH);
+        store.add("/pets", "{\"id\": 10, \"description\": \"" + longValue + "\", \"slug\": \"" + maxLengthValue + "\"}");
+
+        Assertions.assertThat(store.peek("/pets")).contains(Map.of("id", "10", "slug", maxLengthValue));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"{\"id\": 1, \"petId\": 2}|petId|2", "{\"id\": 1}|petId|1", "{\"ID\": 1}|id|1", "{\"name\": 1}|petId|"}, delimiter = '|')
+    void shouldPreferLongestMatchingField(String responseBody, String pathParam, String expected) {
+        PostResponsesStore store = new PostResponsesStore();
+        store.add("/pets", responseBody);
+
+        Assertions.assertThat(PostResponsesStore.findValue(store.peek("/pets").orElseThrow(), pathParam)).isEqualTo(Optional.ofNullable(expected));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"not json", "[1, 2]", "''"}, nullValues = "null")
+    void shouldStoreEmptyIndexWhenBodyIsNotJsonObject(String responseBody) {
+        PostResponsesStore store = new PostResponsesStore();
+        store.add("/pets", responseBody);
+
+        Assertions.assertThat(store.size("/pets")).isEqualTo(1);
+        Assertions.assertThat(store.peek("/pets")).contains(Map.of());
+    }
+
+    @Test
+    void shouldRemoveOldestResponse() {
+        PostResponsesStore store = new PostResponsesStore();
+        store.add("/pets", "{\"id\": 1}");
+        store.add("/pets", "{\"id\": 2}");
+        store.removeOldest("/pets");
+
+        Assertions.assertThat(store.size("/pets")).isEqualTo(1);
+        Assertions.assertThat(store.peek("/pets")).contains(Map.of("id", "2"));
+        store.removeOldest("/other");
+        Assertions.assertThat(store.peek("/other")).isEmpty();
+    }
+
+    @Test
+    void shouldEvictOldestResponsesWhenCapacityIsExceeded() {
+        PostResponsesStore store = new PostResponsesStore();
+        store.configure(2, 0);
+        store.add("/pets", "{\"id\": 1}");
+        store.add("/pets", "{\"id\": 2}");
+        store.add("/pets", "{\"id\": 3}");
+
+        Assertions.assertThat(store.size("/pets")).isEqualTo(2);
+        Assertions.assertThat(store.peek("/pets")).contains(Map.of("id", "2"));
+    }
+
+    @Test
+    void shouldEvictExpiredResponses() {
+        AtomicLong now = new AtomicLong();
+        PostResponsesStore store = new PostResponsesStore(now::get);
+        store.configure(10, 5);
+        store.add("/pets", "{\"id\": 1}");
+        now.set(3000);
+        store.add("/pets", "{\"id\": 2}");
+        now.set(6000);
+
+        Assertions.assertThat(store.size("/pets")).isEqualTo(1);
+        Assertions.assertThat(store.peek("/pets")).contains(Map.of("id", "2"));
+        now.set(9000);
+        Assertions.assertThat(store.peek("/pets")).isEmpty();
+    }
+}
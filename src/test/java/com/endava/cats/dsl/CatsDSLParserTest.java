@@ -20,6 +20,14 @@ class CatsDSLParserTest {
                 "match": "NOT"
               }""";
 
+    @ParameterizedTest
+    @CsvSource(value = {"2[0-9]|true", "[a-z]+|true", "200|true", "'cats'|true", "1 + 1|true", "name|false", "request.name|false",
+            "${request.name}|false", "$variable|false", "$$HOME|false", "auth_script|false", "T(java.time.LocalDate).now()|false",
+            "'cats'.toUpperCase()|false"}, delimiter = '|', quoteCharacter = '"')
+    void shouldDetectContextIndependentExpressions(String expression, boolean expected) {
+        Assertions.assertThat(CatsDSLParser.isContextIndependent(expression)).isEqualTo(expected);
+    }
+
     @Test
     void shouldReturnSameValue() {
         String initial = "test";
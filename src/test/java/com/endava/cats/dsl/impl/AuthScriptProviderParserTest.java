@@ -6,12 +6,20 @@ import com.endava.cats.exception.CatsException;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @QuarkusTest
 class AuthScriptProviderParserTest {
@@ -26,6 +34,11 @@ class AuthScriptProviderParserTest {
         ReflectionTestUtils.setField(authScriptProviderParser, "logger", prettyLogger);
     }
 
+    @AfterEach
+    void tearDown() {
+        authScriptProviderParser.shutdown();
+    }
+
     @Test
     void shouldThrowIOExceptionWhenScriptNotProvided() {
         Map<String, String> context = Map.of();
@@ -60,4 +73,51 @@ class AuthScriptProviderParserTest {
         Mockito.verify(prettyLogger, Mockito.times(2)).note("Running script {} to get credentials", "hostname");
 
     }
+
+    @Test
+    void shouldKeepServingExistingValueWhenRefreshFailsAndRetry() {
+        Deque<Supplier<String>> scriptResults = new ArrayDeque<>(List.of(() -> "token1", () -> {
+            throw new CatsException("Script auth.sh exited with code 3", null);
+        }, () -> "token2"));
+        ScheduledExecutorService refresher = Mockito.mock(ScheduledExecutorService.class);
+        AuthScriptProviderParser parser = new AuthScriptProviderParser(script -> scriptResults.pop().get(), refresher);
+        ReflectionTestUtils.setField(parser, "logger", prettyLogger);
+        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, "auth.sh", Parser.AUTH_REFRESH, "1");
+
+        Assertions.assertThat(parser.parse(null, context)).isEqualTo("token1");
+        this.runNextRefresh(refresher, 900L);
+        Assertions.assertThat(parser.parse(null, context)).isEqualTo("token1");
+        Mockito.verify(prettyLogger).warning(Mockito.eq("Unable to refresh credentials: {}. Retrying in {} ms, using the existing credentials until then"), Mockito.any(), Mockito.eq(900L));
+
+        this.runNextRefresh(refresher, 900L);
+        Assertions.assertThat(parser.parse(null, context)).isEqualTo("token2");
+        Assertions.assertThat(scriptResults).isEmpty();
+    }
+
+    @Test
+    void shouldStopRefreshingAfterShutdown() {
+        ScheduledExecutorService refresher = Mockito.mock(ScheduledExecutorService.class);
+        AuthScriptProviderParser parser = new AuthScriptProviderParser(script -> "token", refresher);
+        parser.parse(null, Map.of(Parser.AUTH_SCRIPT, "auth.sh", Parser.AUTH_REFRESH, "1"));
+
+        parser.shutdown();
+
+        Mockito.verify(refresher).shutdownNow();
+    }
+
+    private void runNextRefresh(ScheduledExecutorService refresher, long expectedDelayInMs) {
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(refresher, Mockito.atLeastOnce()).schedule(refresh.capture(), Mockito.eq(expectedDelayInMs), Mockito.eq(TimeUnit.MILLISECONDS));
+        Mockito.clearInvocations(refresher);
+        refresh.getValue().run();
+    }
+
+    @Test
+    void shouldRunScriptAgainWhenScriptChanges() {
+        Assertions.assertThat(authScriptProviderParser.parse(null, Map.of(Parser.AUTH_SCRIPT, "hostname"))).isNotBlank();
+        Assertions.assertThat(authScriptProviderParser.parse(null, Map.of(Parser.AUTH_SCRIPT, "pwd"))).isNotBlank();
+
+        Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", "hostname");
+        Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", "pwd");
+    }
 }
@@ -0,0 +1,36 @@
+package com.endava.cats.dsl.impl;
+
+import com.google.common.cache.Cache;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class SpringELParserTest {
+
+    @Test
+    void shouldBoundCompiledExpressionsWhenExpressionsContainRuntimeValues() {
+        SpringELParser springELParser = new SpringELParser();
+
+        IntStream.range(0, SpringELParser.MAX_COMPILED_EXPRESSIONS * 2)
+                .forEach(i -> Assertions.assertThat(springELParser.parse("'/pets/" + i + "'.length()", Map.of())).isEqualTo(String.valueOf(6 + String.valueOf(i).length())));
+
+        Cache<?, ?> compiledExpressions = (Cache<?, ?>) ReflectionTestUtils.getField(springELParser, "compiledExpressions");
+        Assertions.assertThat(compiledExpressions.size()).isLessThanOrEqualTo(SpringELParser.MAX_COMPILED_EXPRESSIONS);
+    }
+
+    @Test
+    void shouldReuseCompiledExpression() {
+        SpringELParser springELParser = new SpringELParser();
+
+        Assertions.assertThat(springELParser.parse("1 + 2", Map.of())).isEqualTo("3");
+        Assertions.assertThat(springELParser.parse("1 + 2", Map.of())).isEqualTo("3");
+
+        Cache<?, ?> compiledExpressions = (Cache<?, ?>) ReflectionTestUtils.getField(springELParser, "compiledExpressions");
+        Assertions.assertThat(compiledExpressions.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.endava.cats.factory;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+@QuarkusTest
+class CombinationsTest {
+
+    @Test
+    void shouldGenerateCartesianProductWithFirstGroupChangingFastest() {
+        List<int[]> combinations = Combinations.cartesian(new int[]{2, 3});
+
+        Assertions.assertThat(combinations).containsExactly(new int[]{0, 0}, new int[]{1, 0}, new int[]{0, 1}, new int[]{1, 1}, new int[]{0, 2}, new int[]{1, 2});
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'', 1", "'3,0', 0", "'2,3,4', 24"})
+    void shouldComputeCartesianSize(String sizes, long expected) {
+        int[] groupSizes = toSizes(sizes);
+
+        Assertions.assertThat(Combinations.cartesianSize(groupSizes)).isEqualTo(expected);
+        Assertions.assertThat(Combinations.cartesian(groupSizes)).hasSize((int) expected);
+    }
+
+    @Test
+    void shouldSaturateCartesianSize() {
+        int[] sizes = new int[20];
+        Arrays.fill(sizes, 10);
+
+        Assertions.assertThat(Combinations.cartesianSize(sizes)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'3,3,3,3', 12", "'2,2,2,2,2,2,2,2,2,2', 10", "'4,3,2', 12", "'5', 5", "'3,3,3,3,3,3,3,3,3,3,3,3,3', 21", "'5,4,3,3,2,2,2', 21"})
+    void shouldCoverAllPairsWithFewerCombinations(String sizes, int maxExpected) {
+        int[] groupSizes = toSizes(sizes);
+        List<int[]> combinations = Combinations.pairwise(groupSizes);
+
+        Assertions.assertThat(combinations).hasSizeLessThanOrEqualTo(maxExpected);
+        for (int first = 0; first < groupSizes.length; first++) {
+            for (int second = first + 1; second < groupSizes.length; second++) {
+                for (int firstBranch = 0; firstBranch < groupSizes[first]; firstBranch++) {
+                    for (int secondBranch = 0; secondBranch < groupSizes[second]; secondBranch++) {
+                        int f = first, s = second, fb = firstBranch, sb = secondBranch;
+                        Assertions.assertThat(combinations).anyMatch(combination -> combination[f] == fb && combination[s] == sb);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldCoverEachBranchInFirstCombinations() {
+        int[] sizes = {4, 3, 2};
+        List<int[]> firstCombinations = Combinations.pairwise(sizes).subList(0, 4);
+
+        for (int group = 0; group < sizes.length; group++) {
+            int g = group;
+            Assertions.assertThat(firstCombinations.stream().map(combination -> combination[g]).distinct().count()).isEqualTo(sizes[group]);
+        }
+    }
+
+    private static int[] toSizes(String sizes) {
+        return sizes.isEmpty() ? new int[0] : Arrays.stream(sizes.split(",")).mapToInt(Integer::parseInt).toArray();
+    }
+}
@@ -8,6 +8,7 @@ import com.endava.cats.http.HttpMethod;
 import com.endava.cats.json.JsonUtils;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.openapi.OpenApiUtils;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.parser.OpenAPIParser;
@@ -24,9 +25,11 @@ import org.mockito.Mockito;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @QuarkusTest
 class FuzzingDataFactoryTest {
@@ -201,6 +204,62 @@ class FuzzingDataFactoryTest {
         Assertions.assertThat(JsonParser.parseString(firstData.getPayload()).getAsJsonObject().get("Components").isJsonArray()).isTrue();
     }
 
+    @Test
+    void shouldLimitOneOfCombinationsWhenMaxCombinationsSupplied() throws Exception {
+        Mockito.when(processingArguments.getMaxOneOfAnyOfCombinations()).thenReturn(4);
+        List<FuzzingData> dataList = setupFuzzingData("/api/groopits/create", "src/test/resources/nswag_gen_oneof.json");
+
+        Assertions.assertThat(dataList).hasSize(4);
+        Assertions.assertThat(dataList).allSatisfy(data -> Assertions.assertThat(data.getPayload()).doesNotContain("ANY_OF", "ONE_OF", "ALL_OF"));
+        Assertions.assertThat(dataList.get(0).getResponses().get("201")).hasSize(9);
+    }
+
+    @Test
+    void shouldGeneratePairwiseOneOfCombinations() throws Exception {
+        List<FuzzingData> allCombinations = setupFuzzingData("/orders", "src/test/resources/oneOf_pairwise.yml");
+        Mockito.when(processingArguments.getOneOfAnyOfStrategy()).thenReturn(ProcessingArguments.CombinationStrategy.PAIRWISE);
+        List<FuzzingData> pairwiseCombinations = setupFuzzingData("/orders", "src/test/resources/oneOf_pairwise.yml");
+
+        List<Map<String, String>> allBranches = allCombinations.stream().map(FuzzingDataFactoryTest::selectedBranches).toList();
+        List<Map<String, String>> pairwiseBranches = pairwiseCombinations.stream().map(FuzzingDataFactoryTest::selectedBranches).toList();
+        Assertions.assertThat(allBranches).hasSize(27).doesNotHaveDuplicates();
+        Assertions.assertThat(pairwiseBranches).hasSizeLessThan(allBranches.size()).doesNotHaveDuplicates();
+        for (String group : List.of("payment", "delivery", "contact")) {
+            Assertions.assertThat(pairwiseBranches.stream().map(branches -> branches.get(group)).distinct())
+                    .containsExactlyInAnyOrderElementsOf(allBranches.stream().map(branches -> branches.get(group)).distinct().toList());
+        }
+        Assertions.assertThat(pairs(pairwiseBranches)).isEqualTo(pairs(allBranches));
+    }
+
+    @Test
+    void shouldKeepEveryBranchOfSingleOneOfWhenPairwise() throws Exception {
+        Mockito.when(processingArguments.getOneOfAnyOfStrategy()).thenReturn(ProcessingArguments.CombinationStrategy.PAIRWISE);
+        List<FuzzingData> dataList = setupFuzzingData("/api/groopits/create", "src/test/resources/nswag_gen_oneof.json");
+
+        Assertions.assertThat(dataList).hasSize(9);
+        Assertions.assertThat(dataList.stream().map(FuzzingData::getPayload).distinct()).hasSameSizeAs(dataList);
+    }
+
+    /**
+     * Each oneOf property of the order holds only the field of the selected branch, so the field name identifies the branch.
+     */
+    private static Map<String, String> selectedBranches(FuzzingData data) {
+        JsonObject payload = JsonParser.parseString(data.getPayload()).getAsJsonObject();
+        return payload.keySet().stream().collect(Collectors.toMap(group -> group, group -> String.join(",", payload.getAsJsonObject(group).keySet())));
+    }
+
+    private static Set<String> pairs(List<Map<String, String>> combinations) {
+        Set<String> pairs = new HashSet<>();
+        for (Map<String, String> branches : combinations) {
+            branches.forEach((firstGroup, firstBranch) -> branches.forEach((secondGroup, secondBranch) -> {
+                if (firstGroup.compareTo(secondGroup) < 0) {
+                    pairs.add(firstBranch + "+" + secondBranch);
+                }
+            }));
+        }
+        return pairs;
+    }
+
     @Test
     void shouldGenerateValidResponseForOneOfNestedCombinations() throws Exception {
         List<FuzzingData> dataList = setupFuzzingData("/api/groops/{groopId}/StartGroopitPaging", "src/test/resources/nswag_gen_oneof.json");
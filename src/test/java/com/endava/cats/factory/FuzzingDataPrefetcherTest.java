@@ -0,0 +1,181 @@
+package com.endava.cats.factory;
+
+import com.endava.cats.args.FilesArguments;
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.generator.format.api.ValidDataFormat;
+import com.endava.cats.model.FuzzingData;
+import com.endava.cats.openapi.OpenApiUtils;
+import com.endava.cats.util.CatsRandom;
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import jakarta.inject.Inject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class FuzzingDataPrefetcherTest {
+    private static final Pattern BYTE_ARRAY_IDENTITY = Pattern.compile("\\[B@[0-9a-f]+");
+    private static final Pattern DATE_TIME = Pattern.compile("(\\d{4}-\\d{2}-\\d{2}T)?\\d{2}:\\d{2}:\\d{2}[\\d.]*Z");
+    @Inject
+    CatsGlobalContext catsGlobalContext;
+    @Inject
+    ValidDataFormat validDataFormat;
+    private FilesArguments filesArguments;
+    private ProcessingArguments processingArguments;
+    private FuzzingDataFactory fuzzingDataFactory;
+    private OpenAPI openAPI;
+    private List<Map.Entry<String, PathItem>> paths;
+
+    @BeforeEach
+    void setup() {
+        fuzzingDataFactory = Mockito.mock(FuzzingDataFactory.class);
+        filesArguments = Mockito.mock(FilesArguments.class);
+        processingArguments = Mockito.mock(ProcessingArguments.class);
+        Mockito.when(processingArguments.isUseExamples()).thenReturn(true);
+        Mockito.when(processingArguments.getContentType()).thenReturn(List.of("application/json", "application/x-www-form-urlencoded"));
+        openAPI = new OpenAPI();
+        paths = IntStream.range(0, 10).mapToObj(i -> Map.entry("/path" + i, new PathItem())).toList();
+        Mockito.when(fuzzingDataFactory.fromPathItem(Mockito.anyString(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> List.of(FuzzingData.builder().path(invocation.getArgument(0)).build()));
+        Mockito.when(fuzzingDataFactory.getGlobalContext()).thenReturn(new CatsGlobalContext());
+        Mockito.when(fuzzingDataFactory.withGlobalContext(Mockito.any())).thenReturn(fuzzingDataFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        CatsRandom.initRandom(null);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "1", "3"})
+    void shouldReturnFuzzingDataInPathOrder(int maxPreparedPaths) {
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, maxPreparedPaths)) {
+            List<String> fuzzedPaths = IntStream.range(0, 10).mapToObj(i -> prefetcher.next().get(0).getPath()).toList();
+
+            Assertions.assertThat(fuzzedPaths).containsExactlyElementsOf(paths.stream().map(Map.Entry::getKey).toList());
+            Assertions.assertThat(prefetcher.next()).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldBuildOnlyRequestedPathWhenNotPrefetching() {
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, 0)) {
+            prefetcher.next();
+
+            Mockito.verify(fuzzingDataFactory, Mockito.times(1)).fromPathItem(Mockito.anyString(), Mockito.any(), Mockito.any());
+        }
+    }
+
+    @Test
+    void shouldBoundNumberOfPreparedPaths() {
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, 4)) {
+            prefetcher.next();
+
+            Mockito.verify(fuzzingDataFactory, Mockito.timeout(1000).times(5)).fromPathItem(Mockito.anyString(), Mockito.any(), Mockito.any());
+            Mockito.verify(fuzzingDataFactory, Mockito.after(200).times(5)).fromPathItem(Mockito.anyString(), Mockito.any(), Mockito.any());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"src/test/resources/petstore.yml", "src/test/resources/oneOf_with_base_class.yml", "src/test/resources/issue66.yml"})
+    void shouldExposeSameSchemasToFuzzersAsSequentialBuild(String contract) throws Exception {
+        FuzzingDataFactory realFactory = new FuzzingDataFactory(filesArguments, processingArguments, catsGlobalContext, validDataFormat);
+        OpenAPI sequentialApi = this.loadContract(contract);
+        CatsRandom.initRandom(42L);
+        List<String> sequential = new ArrayList<>();
+        for (Map.Entry<String, PathItem> path : this.sortedPaths(sequentialApi)) {
+            List<FuzzingData> fuzzingData = realFactory.fromPathItem(path.getKey(), path.getValue(), sequentialApi);
+            sequential.add(this.fuzzerVisibleState(fuzzingData) + this.globalState());
+        }
+
+        OpenAPI prefetchedApi = this.loadContract(contract);
+        CatsRandom.initRandom(42L);
+        List<Map.Entry<String, PathItem>> prefetchedPaths = this.sortedPaths(prefetchedApi);
+        List<List<FuzzingData>> prefetchedData = new ArrayList<>();
+        List<String> globalStates = new ArrayList<>();
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(realFactory, prefetchedApi, prefetchedPaths, prefetchedPaths.size())) {
+            for (int i = 0; i < prefetchedPaths.size(); i++) {
+                prefetchedData.add(prefetcher.next());
+                globalStates.add(this.globalState());
+            }
+        }
+        List<String> prefetched = IntStream.range(0, prefetchedData.size())
+                .mapToObj(i -> this.fuzzerVisibleState(prefetchedData.get(i)) + globalStates.get(i))
+                .toList();
+
+        Assertions.assertThat(prefetched).containsExactlyElementsOf(sequential);
+    }
+
+    @Test
+    void shouldPropagateFailures() {
+        Mockito.when(fuzzingDataFactory.fromPathItem(Mockito.anyString(), Mockito.any(), Mockito.any())).thenThrow(new IllegalArgumentException("bad path"));
+
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, 1)) {
+            Assertions.assertThatThrownBy(prefetcher::next).isInstanceOf(IllegalArgumentException.class).hasMessage("bad path");
+        }
+    }
+
+    private OpenAPI loadContract(String contract) throws IOException {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        OpenAPI contractApi = new OpenAPIParser().readContents(Files.readString(Paths.get(contract)), null, options).getOpenAPI();
+        catsGlobalContext.getSchemaMap().clear();
+        catsGlobalContext.getRequestDataTypes().clear();
+        catsGlobalContext.getDiscriminators().clear();
+        catsGlobalContext.getAdditionalProperties().clear();
+        catsGlobalContext.getSchemaMap().putAll(OpenApiUtils.getSchemas(contractApi, List.of("application\\/.*\\+?json")));
+        catsGlobalContext.getExampleMap().putAll(OpenApiUtils.getExamples(contractApi));
+        catsGlobalContext.getSchemaMap().put(NoMediaType.EMPTY_BODY, NoMediaType.EMPTY_BODY_SCHEMA);
+        return contractApi;
+    }
+
+    private List<Map.Entry<String, PathItem>> sortedPaths(OpenAPI openAPI) {
+        return List.copyOf(new TreeMap<>(openAPI.getPaths()).entrySet());
+    }
+
+    /**
+     * Everything the fuzzers of a path read from its FuzzingData: the payloads and the schemas, including the examples set while building.
+     * It is serialized when captured, as later builds must not change it.
+     */
+    private String fuzzerVisibleState(List<FuzzingData> fuzzingDataList) {
+        return this.normalize(fuzzingDataList.stream()
+                .map(data -> String.join("\n", data.getMethod().name(), data.getPath(), data.getPayload(),
+                        Json.pretty(data.getReqSchema()), Json.pretty(new TreeMap<>(data.getRequestPropertyTypes())), Json.pretty(new TreeMap<>(data.getSchemaMap()))))
+                .collect(Collectors.joining("\n")));
+    }
+
+    private String globalState() {
+        return this.normalize(Json.pretty(new TreeMap<>(catsGlobalContext.getSchemaMap())) + Json.pretty(new TreeMap<>(catsGlobalContext.getRequestDataTypes()))
+                + catsGlobalContext.getDiscriminators().stream().map(Discriminator::getPropertyName).toList() + catsGlobalContext.getAdditionalProperties());
+    }
+
+    /**
+     * Masks the values which differ between any two runs: binary examples printed as array identities and times generated from the current time.
+     */
+    private String normalize(String state) {
+        return DATE_TIME.matcher(BYTE_ARRAY_IDENTITY.matcher(state).replaceAll("[B@")).replaceAll("time");
+    }
+}
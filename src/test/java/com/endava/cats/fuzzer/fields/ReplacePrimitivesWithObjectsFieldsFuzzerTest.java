@@ -20,6 +20,8 @@ import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 @QuarkusTest
 class ReplacePrimitivesWithObjectsFieldsFuzzerTest {
@@ -79,4 +81,17 @@ class ReplacePrimitivesWithObjectsFieldsFuzzerTest {
         replacePrimitivesWithObjectsFieldsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.FOURXX));
     }
+
+    @Test
+    void shouldParsePayloadOnceForAllFields() {
+        FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getPayload()).thenReturn("""
+                    {"objectField": {"inner": "inner"}, "primitiveField": 12, "otherField": "value"}
+                """);
+        Predicate<String> fieldFilter = (Predicate<String>) ReflectionTestUtils.getField(replacePrimitivesWithObjectsFieldsFuzzer.getContext(data), "fieldFilter");
+
+        Assertions.assertThat(Stream.of("objectField", "primitiveField", "otherField", "objectField#inner").filter(fieldFilter))
+                .containsExactly("primitiveField", "otherField", "objectField#inner");
+        Mockito.verify(data, Mockito.times(1)).getPayload();
+    }
 }
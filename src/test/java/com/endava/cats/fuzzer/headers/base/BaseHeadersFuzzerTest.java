@@ -5,6 +5,7 @@ import com.endava.cats.args.MatchArguments;
 import com.endava.cats.fuzzer.executor.HeadersIteratorExecutor;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.io.ServiceCaller;
+import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
@@ -14,8 +15,10 @@ import com.endava.cats.strategy.FuzzingStrategy;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import io.swagger.v3.oas.models.media.StringSchema;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -84,6 +87,21 @@ class BaseHeadersFuzzerTest {
         Mockito.verify(testCaseListener, Mockito.times(3)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.eq(catsResponse), Mockito.eq(ResponseCodeFamily.FOURXX), Mockito.eq(true));
     }
 
+    @Test
+    void shouldSendFuzzedHeaderWithoutChangingOriginalHeaders() {
+        FuzzingData data = createData(true);
+        data.getHeaders().add(CatsHeader.builder().name("otherHeader").value("otherValue").build());
+        ArgumentCaptor<ServiceData> serviceDataCaptor = ArgumentCaptor.forClass(ServiceData.class);
+        baseHeadersFuzzer.fuzz(data);
+
+        Mockito.verify(serviceCaller, Mockito.times(2)).call(serviceDataCaptor.capture());
+        ServiceData headerFuzzed = serviceDataCaptor.getAllValues().stream().filter(serviceData -> serviceData.getFuzzedHeaders().contains("header")).findFirst().orElseThrow();
+        Assertions.assertThat(headerFuzzed.getHeaders()).hasSize(2)
+                .anyMatch(header -> header.getName().equals("header") && header.getValue().equals("null"))
+                .anyMatch(header -> header.getName().equals("otherHeader") && header.getValue().equals("otherValue"));
+        Assertions.assertThat(data.getHeaders()).noneMatch(header -> header.getValue().equals("null"));
+    }
+
     private FuzzingData createData(boolean requiredHeaders) {
         Map<String, List<String>> responses = new HashMap<>();
         responses.put("200", Collections.singletonList("response"));
@@ -5,6 +5,7 @@ import com.endava.cats.http.HttpMethod;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CustomFuzzerExecution;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
@@ -195,6 +196,50 @@ class FunctionalFuzzerTest {
         Assertions.assertThat(variables).containsEntry("resp", "200").containsEntry("custId", "john");
     }
 
+    @Test
+    void shouldRunChainsConcurrentlyAndMergeVariables() throws Exception {
+        FuzzingData data = setContext("src/test/resources/functionalFuzzer.yml", "{\"code\": \"200\"}");
+        ReflectionTestUtils.setField(filesArguments, "functionalFuzzerThreads", 4);
+
+        filesArguments.loadCustomFuzzerFile();
+        functionalFuzzer.fuzz(data);
+        functionalFuzzer.executeCustomFuzzerTests();
+
+        Mockito.verify(testCaseListener, Mockito.times(4)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamily.TWOXX));
+        Assertions.assertThat(customFuzzerUtil.getVariables()).containsEntry("resp", "200").containsEntry("custId", "john");
+    }
+
+    @Test
+    void shouldRethrowFailuresFromConcurrentChains() throws Exception {
+        FuzzingData data = setContext("src/test/resources/functionalFuzzer.yml", "{\"code\": \"200\"}");
+        ReflectionTestUtils.setField(filesArguments, "functionalFuzzerThreads", 4);
+        CustomFuzzerUtil failingCustomFuzzerUtil = Mockito.spy(customFuzzerUtil);
+        Mockito.doThrow(new IllegalStateException("chain failed")).when(failingCustomFuzzerUtil).executeTestCases(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        FunctionalFuzzer failingFunctionalFuzzer = new FunctionalFuzzer(filesArguments, failingCustomFuzzerUtil);
+
+        filesArguments.loadCustomFuzzerFile();
+        failingFunctionalFuzzer.fuzz(data);
+
+        Assertions.assertThatThrownBy(failingFunctionalFuzzer::executeCustomFuzzerTests).isInstanceOf(IllegalStateException.class).hasMessage("chain failed");
+    }
+
+    @Test
+    void shouldGroupTestsSharingOutputVariablesIntoSameChain() {
+        CustomFuzzerExecution createPet = execution("/pets", "test_1", Map.of(CatsDSLWords.OUTPUT, Map.of("petId", "id")));
+        CustomFuzzerExecution createUser = execution("/users", "test_1", Map.of(CatsDSLWords.OUTPUT, Map.of("userId", "id")));
+        CustomFuzzerExecution getPet = execution("/pets/{id}", "test_1", Map.of("id", "${petId}"));
+        CustomFuzzerExecution standalone = execution("/health", "test_1", Map.of("id", "${petIdentifier}"));
+        CustomFuzzerExecution verifyUser = execution("/users/{id}", "test_1", Map.of(CatsDSLWords.VERIFY, Map.of("id", "$userId")));
+
+        List<List<CustomFuzzerExecution>> chains = customFuzzerUtil.groupIntoIndependentChains(List.of(createPet, createUser, getPet, standalone, verifyUser));
+
+        Assertions.assertThat(chains).containsExactly(List.of(createPet, getPet), List.of(createUser, verifyUser), List.of(standalone));
+    }
+
+    private static CustomFuzzerExecution execution(String path, String testId, Map<String, Object> testEntry) {
+        return CustomFuzzerExecution.builder().fuzzingData(FuzzingData.builder().path(path).build()).testId(testId).testEntry(testEntry).build();
+    }
+
     @Test
     void shouldWriteRefData() throws Exception {
         FuzzingData data = setContext("src/test/resources/functionalFuzzer.yml", "{\"code\": \"200\"}");
@@ -0,0 +1,54 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.model.CatsResponse;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class ResponseClustersTest {
+
+    @Test
+    void shouldClusterSimilarResponses() {
+        ResponseClusters responseClusters = new ResponseClusters();
+
+        Assertions.assertThat(responseClusters.add(CatsResponse.from(500, "{\"error\": \"invalid value abc at 12\"}", "POST", 1), "abc")).isEqualTo(1);
+        Assertions.assertThat(responseClusters.add(CatsResponse.from(500, "{\"error\":  \"invalid value xyz at 345\"}", "POST", 1), "xyz")).isEqualTo(2);
+        Assertions.assertThat(responseClusters.add(CatsResponse.from(400, "{\"error\": \"invalid value abc at 12\"}", "POST", 1), "abc")).isEqualTo(1);
+        Assertions.assertThat(responseClusters.add(CatsResponse.from(500, "{\"error\": \"database down\"}", "POST", 1), "abc")).isEqualTo(1);
+        Assertions.assertThat(responseClusters.size()).isEqualTo(3);
+
+        responseClusters.clear();
+        Assertions.assertThat(responseClusters.size()).isZero();
+    }
+
+    @Test
+    void shouldClusterResponsesDifferingOnlyByUuid() {
+        ResponseClusters responseClusters = new ResponseClusters();
+
+        responseClusters.add(CatsResponse.from(500, "{\"error\": \"failed\", \"traceId\": \"3f2b8c1e-9d4a-4f6b-8e2c-1a7d5b9c0e4f\"}", "POST", 1), "abc");
+        int position = responseClusters.add(CatsResponse.from(500, "{\"error\": \"failed\", \"traceId\": \"a0b1c2d3-e4f5-4a6b-9c8d-7e6f5a4b3c2d\"}", "POST", 1), "abc");
+
+        Assertions.assertThat(position).isEqualTo(2);
+        Assertions.assertThat(responseClusters.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSeparateResponsesWithDifferentBodiesOfSameLength() {
+        ResponseClusters responseClusters = new ResponseClusters();
+
+        responseClusters.add(CatsResponse.from(400, "{\"error\": \"name invalid\"}", "POST", 1), "abc");
+        responseClusters.add(CatsResponse.from(400, "{\"error\": \"code invalid\"}", "POST", 1), "abc");
+
+        Assertions.assertThat(responseClusters.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNormalizeBody() {
+        Assertions.assertThat(ResponseClusters.normalizeBody("id 123\n  for  cats", "cats")).isEqualTo("id 0 for {fuzzed}");
+        Assertions.assertThat(ResponseClusters.normalizeBody("trace 3f2b8c1e-9d4a-4f6b-8e2c-1a7d5b9c0e4f at 2024-05-01T10:15:30.123Z", null)).isEqualTo("trace {uuid} at {date}");
+        Assertions.assertThat(ResponseClusters.normalizeBody("request 5f3a9c0b12de failed on 2024-05-01", null)).isEqualTo("request {hex} failed on {date}");
+        Assertions.assertThat(ResponseClusters.normalizeBody("deadbeefcafe accepted", null)).isEqualTo("deadbeefcafe accepted");
+        Assertions.assertThat(ResponseClusters.normalizeBody(null, null)).isEmpty();
+    }
+}
@@ -15,6 +15,7 @@ import io.quarkus.test.junit.mockito.InjectSpy;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
@@ -22,8 +23,11 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 @QuarkusTest
 class TemplateFuzzerTest {
@@ -39,6 +43,7 @@ class TemplateFuzzerTest {
     @BeforeEach
     void setup() {
         matchArguments = Mockito.mock(MatchArguments.class);
+        Mockito.when(matchArguments.isReportedClusterExample(Mockito.anyInt())).thenReturn(true);
         userArguments = Mockito.mock(UserArguments.class);
         serviceCaller = Mockito.mock(ServiceCaller.class);
         catsUtil = new CatsUtil();
@@ -162,6 +167,51 @@ class TemplateFuzzerTest {
         Mockito.verify(testCaseListener, Mockito.times(2)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
     }
 
+    @Test
+    void shouldRunUserDictionaryInParallel(@TempDir Path tempDir) throws Exception {
+        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.any())).thenReturn(CatsResponse.empty());
+        FuzzingData data = FuzzingData.builder()
+                .targetFields(Set.of("field"))
+                .processedPayload("{\"field\":\"value\"}")
+                .headers(Collections.emptySet())
+                .method(HttpMethod.POST)
+                .path("http://url")
+                .build();
+        Path words = Files.write(tempDir.resolve("words.txt"), IntStream.range(0, 50).mapToObj(i -> "word" + i).toList());
+        Mockito.when(userArguments.getWords()).thenReturn(words.toFile());
+        Mockito.when(userArguments.getTemplateFuzzerThreads()).thenReturn(4);
+
+        templateFuzzer.fuzz(data);
+
+        Mockito.verify(serviceCaller, Mockito.times(50)).callService(Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(50)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
+    }
+
+    @Test
+    void shouldReportOnlyFirstExamplesPerClusterAndStopWhenEnoughClusters(@TempDir Path tempDir) throws Exception {
+        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.any()))
+                .thenReturn(CatsResponse.from(500, "{\"error\": \"failure 1\"}", "POST", 1))
+                .thenReturn(CatsResponse.from(500, "{\"error\": \"failure 2\"}", "POST", 1))
+                .thenReturn(CatsResponse.from(400, "{\"error\": \"bad request\"}", "POST", 1));
+        Mockito.when(matchArguments.isReportedClusterExample(Mockito.anyInt())).thenAnswer(invocation -> invocation.<Integer>getArgument(0) <= 1);
+        Mockito.when(matchArguments.isStopConditionReached(Mockito.anyInt())).thenAnswer(invocation -> invocation.<Integer>getArgument(0) >= 2);
+        FuzzingData data = FuzzingData.builder()
+                .targetFields(Set.of("field"))
+                .processedPayload("{\"field\":\"value\"}")
+                .headers(Collections.emptySet())
+                .method(HttpMethod.POST)
+                .path("http://url")
+                .build();
+        Path words = Files.write(tempDir.resolve("words.txt"), IntStream.range(0, 10).mapToObj(i -> "word" + i).toList());
+        Mockito.when(userArguments.getWords()).thenReturn(words.toFile());
+
+        templateFuzzer.fuzz(data);
+
+        Mockito.verify(serviceCaller, Mockito.times(3)).callService(Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(2)).reportResultError(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.eq("Service call completed. Please check response details."), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(1)).skipTest(Mockito.any(), Mockito.eq("Skipping test as response is similar to already reported responses!"));
+    }
+
     @Test
     void shouldReportErrorWhenServiceException() throws Exception {
         FuzzingData data = FuzzingData.builder()
@@ -0,0 +1,49 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.json.JsonUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@QuarkusTest
+class VerificationPlanTest {
+
+    @Test
+    void shouldReadAllVerifyEntriesFromResponse() {
+        VerificationPlan plan = VerificationPlan.compile(Map.of("name#first", "Cats", "id", "25", "missing", "value", "checkBoolean", "T(java.lang.Boolean).TRUE"));
+
+        Map<String, String> result = plan.readFromResponse("{\"name\": {\"first\": \"Cats\"}, \"id\": 25}");
+
+        Assertions.assertThat(result).containsEntry("name#first", "Cats").containsEntry("id", "25")
+                .containsEntry("missing", JsonUtils.NOT_SET).containsEntry("checkBoolean", "true");
+    }
+
+    @Test
+    void shouldReturnNotSetWhenResponseIsNotJson() {
+        VerificationPlan plan = VerificationPlan.compile(Map.of("id", "25"));
+
+        Assertions.assertThat(plan.readFromResponse(null)).containsEntry("id", JsonUtils.NOT_SET);
+    }
+
+    @Test
+    void shouldCompileContextIndependentPatternsOnce() {
+        VerificationPlan plan = VerificationPlan.compile(Map.of("id", "2[0-9]"));
+
+        Assertions.assertThat(plan.pattern("id", () -> "unused")).isSameAs(plan.pattern("id", () -> "unused"));
+        Assertions.assertThat(plan.pattern("id", () -> "unused").matcher("25").matches()).isTrue();
+    }
+
+    @Test
+    void shouldEvaluatePatternOnEachCallWhenDependingOnContext() {
+        VerificationPlan plan = VerificationPlan.compile(Map.of("id", "${request.id}", "name", "$name"));
+        AtomicInteger evaluations = new AtomicInteger();
+
+        Assertions.assertThat(plan.pattern("id", () -> "1" + evaluations.incrementAndGet()).pattern()).isEqualTo("11");
+        Assertions.assertThat(plan.pattern("id", () -> "1" + evaluations.incrementAndGet()).pattern()).isEqualTo("12");
+        Assertions.assertThat(plan.pattern("name", () -> "cats").pattern()).isEqualTo("cats");
+        Assertions.assertThat(plan.staticPatterns()).isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.endava.cats.generator.simple;
 
+import com.endava.cats.util.CatsRandom;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 @QuarkusTest
@@ -118,4 +120,15 @@ class StringGeneratorTest {
 
         Assertions.assertThat(fixedLengthGenerated).hasSize(length);
     }
+
+    @Test
+    void shouldGenerateSameValuesWhenUsingSameSeed() {
+        CatsRandom.initRandom(42L);
+        List<String> firstRun = List.of(StringGenerator.generate("[a-z]+", 5, 20), StringGenerator.generate("^\\d{3}-[A-Z]{2}$", 6, 6), StringGenerator.generateRandomUnicode());
+        CatsRandom.initRandom(42L);
+        List<String> secondRun = List.of(StringGenerator.generate("[a-z]+", 5, 20), StringGenerator.generate("^\\d{3}-[A-Z]{2}$", 6, 6), StringGenerator.generateRandomUnicode());
+        CatsRandom.initRandom(null);
+
+        Assertions.assertThat(firstRun).isEqualTo(secondRun);
+    }
 }
@@ -0,0 +1,42 @@
+package com.endava.cats.generator.simple;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+@QuarkusTest
+class UnicodeGeneratorTest {
+
+    @ParameterizedTest
+    @CsvSource({"1", "3", "6"})
+    void shouldSplitPayloadsInChunksOfCodePoints(int size) {
+        List<String> payloads = UnicodeGenerator.getAllPayloadsOfSize(size);
+
+        Assertions.assertThat(payloads).isNotEmpty()
+                .allMatch(payload -> payload.codePointCount(0, payload.length()) <= size);
+        Assertions.assertThat(payloads.subList(0, payloads.size() - 1))
+                .allMatch(payload -> payload.codePointCount(0, payload.length()) == size);
+        Assertions.assertThat(String.join("", payloads)).isEqualTo(String.join("", UnicodeGenerator.getAllPayloadsOfSize(1)));
+    }
+
+    @Test
+    void shouldReuseSamePayloadsForSizesLargerThanMaxChunk() {
+        List<String> payloads = UnicodeGenerator.getAllPayloadsOfSize(100);
+
+        Assertions.assertThat(payloads).isSameAs(UnicodeGenerator.getAllPayloadsOfSize(6));
+        Assertions.assertThatThrownBy(() -> payloads.add("test")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldGenerateLargeUnicodeStringOncePerSize() {
+        String largeString = UnicodeGenerator.getLargeUnicodeString(40000);
+
+        Assertions.assertThat(largeString.length()).isGreaterThanOrEqualTo(40000);
+        Assertions.assertThat(UnicodeGenerator.getLargeUnicodeString(40000)).isSameAs(largeString);
+        Assertions.assertThat(UnicodeGenerator.getLargeUnicodeString(10)).hasSize(10);
+    }
+}
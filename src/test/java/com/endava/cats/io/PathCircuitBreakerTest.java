@@ -0,0 +1,47 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class PathCircuitBreakerTest {
+
+    @Test
+    void shouldOpenAfterConsecutiveFailures() {
+        PathCircuitBreaker circuitBreaker = new PathCircuitBreaker(2, 60000);
+        circuitBreaker.recordFailure();
+        Assertions.assertThat(circuitBreaker.allowRequest()).isTrue();
+
+        circuitBreaker.recordFailure();
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(PathCircuitBreaker.State.OPEN);
+        Assertions.assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    void shouldResetFailuresOnSuccess() {
+        PathCircuitBreaker circuitBreaker = new PathCircuitBreaker(2, 60000);
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(PathCircuitBreaker.State.CLOSED);
+        Assertions.assertThat(circuitBreaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    void shouldLetSingleProbeThroughWhenOpenTimeElapsed() {
+        PathCircuitBreaker circuitBreaker = new PathCircuitBreaker(1, 0);
+        circuitBreaker.recordFailure();
+
+        Assertions.assertThat(circuitBreaker.allowRequest()).isTrue();
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(PathCircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.recordFailure();
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(PathCircuitBreaker.State.OPEN);
+
+        Assertions.assertThat(circuitBreaker.allowRequest()).isTrue();
+        circuitBreaker.recordSuccess();
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(PathCircuitBreaker.State.CLOSED);
+    }
+}
@@ -6,6 +6,8 @@ import com.endava.cats.args.FilesArguments;
 import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.dsl.CatsDSLParser;
+import com.endava.cats.exception.CatsCircuitOpenException;
+import com.endava.cats.exception.CatsException;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
@@ -21,15 +23,15 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import jakarta.inject.Inject;
 import java.io.File;
 import java.net.Proxy;
-import java.util.ArrayDeque;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -429,9 +431,7 @@ class ServiceCallerTest {
     @Test
     void shouldReturnEmptyWhenPostStoredButNotMatchingElement() {
         ServiceData data = ServiceData.builder().relativePath("/test/{testId}").httpMethod(HttpMethod.DELETE).build();
-        Deque<String> existingPost = new ArrayDeque<>();
-        existingPost.add("{\"field\": 23}");
-        catsGlobalContext.getPostSuccessfulResponses().put("/test", existingPost);
+        catsGlobalContext.getPostSuccessfulResponses().add("/test", "{\"field\": 23}");
 
         Map<String, String> cachedPost = serviceCaller.getPathParamFromCorrespondingPostIfDelete(data);
         Assertions.assertThat(cachedPost).isEmpty();
@@ -440,11 +440,101 @@ class ServiceCallerTest {
     @Test
     void shouldReturnPostParamWhenMatching() {
         ServiceData data = ServiceData.builder().relativePath("/test/{testId}").httpMethod(HttpMethod.DELETE).build();
-        Deque<String> existingPost = new ArrayDeque<>();
-        existingPost.add("{\"testId\": 23}");
-        catsGlobalContext.getPostSuccessfulResponses().put("/test", existingPost);
+        catsGlobalContext.getPostSuccessfulResponses().add("/test", "{\"testId\": 23}");
 
         Map<String, String> cachedPost = serviceCaller.getPathParamFromCorrespondingPostIfDelete(data);
         Assertions.assertThat(cachedPost).containsEntry("testId", "23");
     }
+
+    @ParameterizedTest
+    @CsvSource(value = {"{\"test_id\": \"abc\", \"id\": 1}|abc", "{\"TEST-ID\": \"abc\"}|abc", "{\"id\": 1, \"name\": \"cats\"}|1"}, delimiter = '|')
+    void shouldReturnPostParamMatchingLongestFieldName(String postResponse, String expected) {
+        ServiceData data = ServiceData.builder().relativePath("/test/{testId}").httpMethod(HttpMethod.DELETE).build();
+        catsGlobalContext.getPostSuccessfulResponses().add("/test", postResponse);
+
+        Map<String, String> cachedPost = serviceCaller.getPathParamFromCorrespondingPostIfDelete(data);
+        Assertions.assertThat(cachedPost).containsEntry("testId", expected);
+    }
+
+    @Test
+    void shouldReuseResponseForIdenticalRequestsWhenDeduplicationEnabled() {
+        wireMockServer.stubFor(WireMock.put("/dedup").willReturn(WireMock.ok("{'result':'OK'}")));
+        TestCaseListener testCaseListener = Mockito.mock(TestCaseListener.class);
+        ServiceCaller dedupServiceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, catsUtil, filesArguments, authArguments, apiArguments, processingArguments);
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        dedupServiceCaller.initHttpClient();
+        dedupServiceCaller.initRateLimiter();
+
+        CatsResponse firstResponse = dedupServiceCaller.call(ServiceData.builder().relativePath("/dedup").payload("{'id':1}").httpMethod(HttpMethod.PUT)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).fuzzedFields(Set.of("first")).contentType("application/json").build());
+        CatsResponse secondResponse = dedupServiceCaller.call(ServiceData.builder().relativePath("/dedup").payload("{'id':1}").httpMethod(HttpMethod.PUT)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).fuzzedFields(Set.of("parent#second")).contentType("application/json").build());
+        dedupServiceCaller.call(ServiceData.builder().relativePath("/dedup").payload("{'id':2}").httpMethod(HttpMethod.PUT)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        wireMockServer.verify(2, WireMock.putRequestedFor(WireMock.urlEqualTo("/dedup")));
+        Mockito.verify(testCaseListener, Mockito.times(1)).recordReusedResponse();
+        Assertions.assertThat(secondResponse.getBody()).isEqualTo(firstResponse.getBody());
+        Assertions.assertThat(firstResponse.getFuzzedField()).isEqualTo("first");
+        Assertions.assertThat(secondResponse.getFuzzedField()).isEqualTo("second");
+        Assertions.assertThat(firstResponse.isReused()).isFalse();
+        Assertions.assertThat(secondResponse.isReused()).isTrue();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedResponsesWhenDeduplicationCacheIsFull() {
+        String largeBody = "{'result':'" + "a".repeat(600 * 1024) + "'}";
+        wireMockServer.stubFor(WireMock.put("/dedupEvict").willReturn(WireMock.ok(largeBody)));
+        TestCaseListener testCaseListener = Mockito.mock(TestCaseListener.class);
+        ServiceCaller dedupServiceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, catsUtil, filesArguments, authArguments, apiArguments, processingArguments);
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        ReflectionTestUtils.setField(apiArguments, "deduplicateCacheSize", 1);
+        dedupServiceCaller.initHttpClient();
+        dedupServiceCaller.initRateLimiter();
+
+        for (String payload : List.of("{'id':1}", "{'id':2}", "{'id':2}", "{'id':1}")) {
+            dedupServiceCaller.call(ServiceData.builder().relativePath("/dedupEvict").payload(payload).httpMethod(HttpMethod.PUT)
+                    .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+        }
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+        ReflectionTestUtils.setField(apiArguments, "deduplicateCacheSize", 100);
+
+        wireMockServer.verify(3, WireMock.putRequestedFor(WireMock.urlEqualTo("/dedupEvict")));
+        Mockito.verify(testCaseListener, Mockito.times(1)).recordReusedResponse();
+    }
+
+    @Test
+    void shouldOpenCircuitBreakerAfterConsecutiveConnectionFailuresAndCloseAfterSuccessfulProbe() {
+        ReflectionTestUtils.setField(apiArguments, "circuitBreakerThreshold", 2);
+        ReflectionTestUtils.setField(apiArguments, "circuitBreakerOpenTime", 3600);
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:111");
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ServiceData data = ServiceData.builder().relativePath("/pets").contractPath("/pets").payload("{'field':'oldValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build();
+        ServiceData otherPathData = ServiceData.builder().relativePath("/pets/{id}").contractPath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build();
+
+        Assertions.assertThatThrownBy(() -> serviceCaller.call(data)).isInstanceOf(CatsException.class);
+        Assertions.assertThatThrownBy(() -> serviceCaller.call(data)).isInstanceOf(CatsException.class);
+        Assertions.assertThatThrownBy(() -> serviceCaller.call(data)).isInstanceOf(CatsCircuitOpenException.class)
+                .hasMessageContaining("/pets");
+        Assertions.assertThatThrownBy(() -> serviceCaller.call(otherPathData)).isInstanceOf(CatsException.class);
+
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:" + wireMockServer.port());
+        ReflectionTestUtils.setField(apiArguments, "circuitBreakerOpenTime", 0);
+        ServiceCaller recoveringServiceCaller = new ServiceCaller(catsGlobalContext, Mockito.mock(TestCaseListener.class), catsUtil, filesArguments, authArguments, apiArguments, processingArguments);
+        recoveringServiceCaller.initHttpClient();
+        recoveringServiceCaller.initRateLimiter();
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:111");
+        Assertions.assertThatThrownBy(() -> recoveringServiceCaller.call(data)).isInstanceOf(CatsException.class);
+        Assertions.assertThatThrownBy(() -> recoveringServiceCaller.call(data)).isInstanceOf(CatsException.class);
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:" + wireMockServer.port());
+        CatsResponse probeResponse = recoveringServiceCaller.call(data);
+        ReflectionTestUtils.setField(apiArguments, "circuitBreakerThreshold", 0);
+        ReflectionTestUtils.setField(apiArguments, "circuitBreakerOpenTime", 30);
+
+        Assertions.assertThat(probeResponse.responseCodeAsString()).isEqualTo("200");
+    }
 }
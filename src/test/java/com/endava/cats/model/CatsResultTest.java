@@ -0,0 +1,28 @@
+package com.endava.cats.model;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@QuarkusTest
+class CatsResultTest {
+
+    @Test
+    void shouldFillPlaceholdersWithoutChangingSharedResult() {
+        CatsResult.Details first = CatsResult.UNEXPECTED_BEHAVIOUR.withResponseCode("500").withExpectedResponseCodes("[4XX]");
+        CatsResult.Details second = CatsResult.UNEXPECTED_BEHAVIOUR.withResponseCode("200");
+
+        Assertions.assertThat(first.getMessage()).isEqualTo("Unexpected behaviour: expected [4XX], actual [500]");
+        Assertions.assertThat(first.getReason()).isEqualTo("Unexpected behaviour: 500");
+        Assertions.assertThat(second.getMessage()).isEqualTo("Unexpected behaviour: expected , actual [200]");
+        Assertions.assertThat(CatsResult.UNEXPECTED_BEHAVIOUR.getReason()).isEqualTo("Unexpected behaviour: ");
+    }
+
+    @Test
+    void shouldAddUnmatchedFieldsOnlyWhenPresent() {
+        Assertions.assertThat(CatsResult.NOT_MATCHING_RESPONSE_SCHEMA.withUnmatchedFields(List.of("id")).getMessage()).endsWith("Response fields not matching the schema: [id]");
+        Assertions.assertThat(CatsResult.NOT_MATCHING_RESPONSE_SCHEMA.withUnmatchedFields(List.of()).getMessage()).endsWith("corresponding schema.");
+    }
+}
@@ -1,5 +1,6 @@
 package com.endava.cats.model;
 
+import com.endava.cats.http.HttpMethod;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
@@ -32,6 +33,25 @@ class FuzzingDataTest {
                 .containsExactly("firstName", "lastName");
     }
 
+    @Test
+    void givenASelfReferencingSchema_whenGettingAllFields_thenFieldsAreReturnedUntilSelfReferenceDepth() {
+        ObjectSchema nodeSchema = new ObjectSchema();
+        nodeSchema.setProperties(Map.of("name", new StringSchema(), "child", new Schema<>().$ref("#/components/schemas/Node")));
+        Map<String, Schema> requestPropertyTypes = new HashMap<>();
+        String prefix = "";
+        for (int i = 0; i < 5; i++) {
+            requestPropertyTypes.put(prefix + "name", new StringSchema());
+            requestPropertyTypes.put(prefix + "child", nodeSchema);
+            prefix = prefix + "child#";
+        }
+        FuzzingData data = FuzzingData.builder().schemaMap(Map.of("Node", nodeSchema)).requestPropertyTypes(requestPropertyTypes)
+                .reqSchema(nodeSchema).selfReferenceDepth(3).build();
+
+        Set<String> allProperties = data.getAllFieldsByHttpMethod();
+        Assertions.assertThat(allProperties)
+                .containsExactlyInAnyOrder("name", "child", "child#name", "child#child", "child#child#name", "child#child#child");
+    }
+
     @Test
     void givenASchemaWithSubfields_whenGettingAllFieldsAsASingleSet_thenAllFieldsAreReturned() {
         ObjectSchema baseSchema = new ObjectSchema();
@@ -108,6 +128,32 @@ class FuzzingDataTest {
         Assertions.assertThat(setOfFields).hasSize(expected);
     }
 
+    @Test
+    void shouldRemoveAllReadOnlyFieldsAndCacheThePayload() {
+        Map<String, Schema> properties = this.getBasePropertiesMapWithSubfields();
+        properties.get("firstName").setReadOnly(true);
+        ((Schema<?>) properties.get("address").getProperties().get("street")).setReadOnly(true);
+        properties.get("address").set$ref(null);
+        ObjectSchema baseSchema = new ObjectSchema();
+        baseSchema.setProperties(properties);
+        FuzzingData data = FuzzingData.builder().method(HttpMethod.POST).schemaMap(properties).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema)
+                .payload("{\"firstName\":\"john\",\"address\":{\"street\":\"main\",\"zipCode\":\"123\"}}").build();
+
+        String payload = data.getPayload();
+        Assertions.assertThat(payload).isEqualTo("{\"address\":{\"zipCode\":\"123\"}}");
+        Assertions.assertThat(data.getPayload()).isSameAs(payload);
+    }
+
+    @Test
+    void shouldReturnSamePayloadWhenNoReadOnlyFields() {
+        ObjectSchema baseSchema = new ObjectSchema();
+        baseSchema.setProperties(this.getBasePropertiesMap());
+        String payload = "{\"firstName\": \"john\", \"lastName\": \"doe\"}";
+        FuzzingData data = FuzzingData.builder().method(HttpMethod.POST).reqSchema(baseSchema).requestPropertyTypes(this.getBasePropertiesMap()).payload(payload).build();
+
+        Assertions.assertThat(data.getPayload()).isSameAs(payload);
+    }
+
     public Map<String, Schema> getBasePropertiesRequired() {
         Map<String, Schema> schemaMap = new HashMap<>();
         schemaMap.put("address", new StringSchema());
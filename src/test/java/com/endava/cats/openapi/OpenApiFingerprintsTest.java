@@ -0,0 +1,76 @@
+package com.endava.cats.openapi;
+
+import com.endava.cats.json.JsonUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+@QuarkusTest
+class OpenApiFingerprintsTest {
+
+    @Test
+    void shouldComputeSameFingerprintsForSameContract() throws Exception {
+        Map<String, String> first = OpenApiFingerprints.fingerprintOperations(OpenApiUtils.readOpenApi("src/test/resources/petstore.yml"));
+        Map<String, String> second = OpenApiFingerprints.fingerprintOperations(OpenApiUtils.readOpenApi("src/test/resources/petstore.yml"));
+
+        Assertions.assertThat(first).containsKeys("GET /pets", "POST /pets", "GET /pets/{id}", "POST /pet-types").isEqualTo(second);
+    }
+
+    @Test
+    void shouldChangeFingerprintOnlyForOperationsReferencingChangedSchema() throws Exception {
+        Map<String, String> initial = OpenApiFingerprints.fingerprintOperations(OpenApiUtils.readOpenApi("src/test/resources/petstore.yml"));
+        OpenAPI changed = OpenApiUtils.readOpenApi("src/test/resources/petstore.yml");
+        changed.getComponents().getSchemas().get("MegaPet").setDescription("changed description");
+
+        Map<String, String> afterChange = OpenApiFingerprints.fingerprintOperations(changed);
+
+        Assertions.assertThat(afterChange.get("POST /pet-types")).isNotEqualTo(initial.get("POST /pet-types"));
+        Assertions.assertThat(afterChange.get("GET /pets")).isEqualTo(initial.get("GET /pets"));
+        Assertions.assertThat(afterChange.get("GET /pets/{id}")).isEqualTo(initial.get("GET /pets/{id}"));
+    }
+
+    @Test
+    void shouldChangeFingerprintWhenTransitiveSchemaChanges() throws Exception {
+        Map<String, String> initial = OpenApiFingerprints.fingerprintOperations(OpenApiUtils.readOpenApi("src/test/resources/petstore.yml"));
+        OpenAPI changed = OpenApiUtils.readOpenApi("src/test/resources/petstore.yml");
+        changed.getComponents().getSchemas().get("Husky").setDescription("changed description");
+
+        Map<String, String> afterChange = OpenApiFingerprints.fingerprintOperations(changed);
+
+        Assertions.assertThat(afterChange.get("GET /pets/{id}")).isNotEqualTo(initial.get("GET /pets/{id}"));
+    }
+
+    @Test
+    void shouldLoadFingerprintsFromPreviousContract() throws Exception {
+        Map<String, String> fromContract = OpenApiFingerprints.loadFingerprints(new File("src/test/resources/petstore.yml"));
+
+        Assertions.assertThat(fromContract).isEqualTo(OpenApiFingerprints.fingerprintOperations(OpenApiUtils.readOpenApi("src/test/resources/petstore.yml")));
+    }
+
+    @Test
+    void shouldLoadFingerprintsFromFingerprintsFile() throws Exception {
+        Path fingerprintsFile = Files.createTempFile("cats-fingerprints", ".json");
+        Files.writeString(fingerprintsFile, JsonUtils.GSON.toJson(Map.of(OpenApiFingerprints.FINGERPRINTS, Map.of("GET /pets", "abc"))));
+
+        Map<String, String> fingerprints = OpenApiFingerprints.loadFingerprints(fingerprintsFile.toFile());
+
+        Assertions.assertThat(fingerprints).containsOnly(Map.entry("GET /pets", "abc"));
+        Files.delete(fingerprintsFile);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPreviousFileIsNotValid() throws Exception {
+        Path invalidFile = Files.createTempFile("cats-fingerprints", ".txt");
+        Files.writeString(invalidFile, "not a contract");
+
+        Assertions.assertThatThrownBy(() -> OpenApiFingerprints.loadFingerprints(invalidFile.toFile())).isInstanceOf(IOException.class);
+        Files.delete(invalidFile);
+    }
+}
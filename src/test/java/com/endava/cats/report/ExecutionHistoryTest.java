@@ -0,0 +1,48 @@
+package com.endava.cats.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+@QuarkusTest
+class ExecutionHistoryTest {
+
+    private static final String SUMMARY = """
+            {"testCases": [
+              {"id": "Test 1", "path": "/stable", "fuzzer": "HappyPath", "result": "success", "timeToExecuteInSec": 0.1},
+              {"id": "Test 2", "path": "/slow", "fuzzer": "HappyPath", "result": "success", "timeToExecuteInSec": 3.0},
+              {"id": "Test 3", "path": "/failing", "fuzzer": "HappyPath", "result": "success", "timeToExecuteInSec": 0.1},
+              {"id": "Test 4", "path": "/failing", "fuzzer": "RemoveFields", "result": "error", "timeToExecuteInSec": 0.1},
+              {"id": "Test 5", "path": "/failing", "fuzzer": "NewFields", "result": "warn", "timeToExecuteInSec": 0.1},
+              {"id": "Test 6", "path": "/failing", "fuzzer": "NewFields", "result": "success", "timeToExecuteInSec": 0.1}
+            ], "totalTests": 6}
+            """;
+
+    @Test
+    void shouldPrioritizePathsByFailureRateThenResponseTime(@TempDir Path tempDir) throws Exception {
+        Path summary = Files.writeString(tempDir.resolve("cats-summary-report.json"), SUMMARY);
+        ExecutionHistory history = ExecutionHistory.load(summary.toFile());
+
+        List<String> paths = Stream.of("/stable", "/slow", "/new", "/failing").sorted(history.pathComparator()).toList();
+
+        Assertions.assertThat(history.size()).isEqualTo(3);
+        Assertions.assertThat(paths).containsExactly("/new", "/failing", "/slow", "/stable");
+    }
+
+    @Test
+    void shouldPrioritizeFuzzersForPath(@TempDir Path tempDir) throws Exception {
+        Path summary = Files.writeString(tempDir.resolve("cats-summary-report.json"), SUMMARY);
+        ExecutionHistory history = ExecutionHistory.load(summary.toFile());
+
+        List<String> fuzzers = Stream.of("HappyPathFuzzer", "NewFieldsFuzzer", "RemoveFieldsFuzzer", "BypassAuthenticationFuzzer")
+                .sorted(history.fuzzerComparator("/failing")).toList();
+
+        Assertions.assertThat(fuzzers).containsExactly("BypassAuthenticationFuzzer", "RemoveFieldsFuzzer", "NewFieldsFuzzer", "HappyPathFuzzer");
+    }
+}
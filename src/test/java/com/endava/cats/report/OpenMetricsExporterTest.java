@@ -0,0 +1,107 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.io.ServiceCaller;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsTestCase;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@QuarkusTest
+class OpenMetricsExporterTest {
+    private ExecutionStatisticsListener executionStatisticsListener;
+    private ReportingArguments reportingArguments;
+    private OpenMetricsExporter openMetricsExporter;
+
+    @BeforeEach
+    void setup() {
+        executionStatisticsListener = new ExecutionStatisticsListener();
+        reportingArguments = new ReportingArguments();
+        ServiceCaller serviceCaller = Mockito.mock(ServiceCaller.class);
+        Mockito.when(serviceCaller.getInFlightRequests()).thenReturn(3);
+        Mockito.when(serviceCaller.getRequestsPerSecondLimit()).thenReturn(2.5);
+        openMetricsExporter = new OpenMetricsExporter(executionStatisticsListener, serviceCaller, reportingArguments);
+    }
+
+    @Test
+    void shouldRenderCountersHistogramsAndGauges() {
+        executionStatisticsListener.recordTestCase(testCase("HappyFuzzer", "success", 200, 20));
+        executionStatisticsListener.recordTestCase(testCase("HappyFuzzer", "success", 200, 300));
+        executionStatisticsListener.recordTestCase(testCase("HappyFuzzer", "error", 500, 7));
+
+        String metrics = openMetricsExporter.renderMetrics();
+
+        Assertions.assertThat(metrics)
+                .contains("cats_tests_total{fuzzer=\"HappyFuzzer\",result=\"success\",status=\"200\"} 2\n")
+                .contains("cats_tests_total{fuzzer=\"HappyFuzzer\",result=\"error\",status=\"500\"} 1\n")
+                .contains("cats_response_time_seconds_bucket{fuzzer=\"HappyFuzzer\",le=\"0.005\"} 0\n")
+                .contains("cats_response_time_seconds_bucket{fuzzer=\"HappyFuzzer\",le=\"0.01\"} 1\n")
+                .contains("cats_response_time_seconds_bucket{fuzzer=\"HappyFuzzer\",le=\"0.25\"} 2\n")
+                .contains("cats_response_time_seconds_bucket{fuzzer=\"HappyFuzzer\",le=\"+Inf\"} 3\n")
+                .contains("cats_response_time_seconds_sum{fuzzer=\"HappyFuzzer\"} 0.327\n")
+                .contains("cats_response_time_seconds_count{fuzzer=\"HappyFuzzer\"} 3\n")
+                .contains("cats_in_flight_requests 3\n")
+                .contains("cats_rate_limit_requests_per_second 2.5\n");
+    }
+
+    @Test
+    void shouldNotRecordResponseTimeWhenNoResponse() {
+        executionStatisticsListener.recordTestCase(testCase("HappyFuzzer", "error", 999, 10000));
+
+        Assertions.assertThat(openMetricsExporter.renderMetrics())
+                .contains("cats_tests_total{fuzzer=\"HappyFuzzer\",result=\"error\",status=\"999\"} 1\n")
+                .doesNotContain("cats_response_time_seconds_count");
+    }
+
+    @Test
+    void shouldCountReusedResponsesWithoutRecordingTheirResponseTime() {
+        executionStatisticsListener.recordTestCase(testCase("HappyFuzzer", "success", 200, 20));
+        CatsTestCase reusedTestCase = testCase("HappyFuzzer", "success", 200, 20);
+        reusedTestCase.setResponse(reusedTestCase.getResponse().toBuilder().reused(true).build());
+        executionStatisticsListener.recordTestCase(reusedTestCase);
+        executionStatisticsListener.increaseReusedResponses();
+
+        Assertions.assertThat(openMetricsExporter.renderMetrics())
+                .contains("cats_tests_total{fuzzer=\"HappyFuzzer\",result=\"success\",status=\"200\"} 2\n")
+                .contains("cats_response_time_seconds_count{fuzzer=\"HappyFuzzer\"} 1\n")
+                .contains("cats_reused_responses_total 1\n");
+    }
+
+    @Test
+    void shouldWriteMetricsFileOnStop(@TempDir Path tempDir) throws Exception {
+        File metricsFile = tempDir.resolve("cats.prom").toFile();
+        ReflectionTestUtils.setField(reportingArguments, "metricsFile", metricsFile);
+        executionStatisticsListener.recordTestCase(testCase("HappyFuzzer", "success", 200, 20));
+
+        openMetricsExporter.start();
+        openMetricsExporter.stop();
+
+        Assertions.assertThat(Files.readString(metricsFile.toPath())).contains("cats_tests_total{fuzzer=\"HappyFuzzer\",result=\"success\",status=\"200\"} 1");
+        Assertions.assertThat(tempDir.resolve("cats.prom.tmp")).doesNotExist();
+    }
+
+    @Test
+    void shouldNotWriteMetricsWhenNoMetricsFile(@TempDir Path tempDir) {
+        openMetricsExporter.start();
+        openMetricsExporter.stop();
+
+        Assertions.assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    private static CatsTestCase testCase(String fuzzer, String result, int responseCode, long responseTime) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setFuzzer(fuzzer);
+        testCase.setResult(result);
+        testCase.setResponse(CatsResponse.from(responseCode, "{}", "POST", responseTime));
+        return testCase;
+    }
+}
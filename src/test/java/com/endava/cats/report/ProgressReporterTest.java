@@ -0,0 +1,87 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsTestCase;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class ProgressReporterTest {
+    private ExecutionStatisticsListener executionStatisticsListener;
+    private ProgressReporter progressReporter;
+
+    @BeforeEach
+    void setup() {
+        executionStatisticsListener = new ExecutionStatisticsListener();
+        progressReporter = new ProgressReporter(executionStatisticsListener, new ReportingArguments());
+    }
+
+    @Test
+    void shouldNotEstimateBeforeFirstPathCompleted() {
+        progressReporter.start(4);
+        long startTime = (long) ReflectionTestUtils.getField(progressReporter, "startTime");
+
+        Assertions.assertThat(progressReporter.renderProgress(startTime + 1000))
+                .isEqualTo("Paths 0/4 | Tests 0/~? | 0.0 req/s (avg 0.0 req/s) | p95 0 ms | Elapsed 1s | ETA ?");
+    }
+
+    @Test
+    void shouldRenderThroughputLatencyAndEta() {
+        progressReporter.start(4);
+        long startTime = (long) ReflectionTestUtils.getField(progressReporter, "startTime");
+        IntStream.range(0, 100).forEach(i -> executionStatisticsListener.recordTestCase(testCase(i < 95 ? 40 : 900)));
+        progressReporter.pathCompleted();
+
+        Assertions.assertThat(progressReporter.renderProgress(startTime + 10000))
+                .isEqualTo("Paths 1/4 | Tests 100/~400 | 10.0 req/s (avg 10.0 req/s) | p95 50 ms | Elapsed 10s | ETA 30s");
+
+        IntStream.range(0, 20).forEach(i -> executionStatisticsListener.recordTestCase(testCase(40)));
+        Assertions.assertThat(progressReporter.renderProgress(startTime + 20000))
+                .startsWith("Paths 1/4 | Tests 120/~480 | 2.0 req/s (avg 6.0 req/s)");
+    }
+
+    @Test
+    void shouldComputeThroughputAndLatencyOnlyFromSentRequests() {
+        progressReporter.start(4);
+        long startTime = (long) ReflectionTestUtils.getField(progressReporter, "startTime");
+        IntStream.range(0, 10).forEach(i -> executionStatisticsListener.recordTestCase(testCase(40)));
+        IntStream.range(0, 90).forEach(i -> executionStatisticsListener.recordTestCase(reusedTestCase(900)));
+        progressReporter.pathCompleted();
+
+        Assertions.assertThat(progressReporter.renderProgress(startTime + 10000))
+                .isEqualTo("Paths 1/4 | Tests 100/~400 | 1.0 req/s (avg 1.0 req/s) | p95 50 ms | Elapsed 10s | ETA 30s");
+    }
+
+    @Test
+    void shouldEstimateQuantileFromHistograms() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        IntStream.range(0, 50).forEach(i -> first.record(20));
+        IntStream.range(0, 50).forEach(i -> second.record(200));
+
+        Assertions.assertThat(LatencyHistogram.estimateQuantile(List.of(first, second), 0.5)).isEqualTo(25);
+        Assertions.assertThat(LatencyHistogram.estimateQuantile(List.of(first, second), 0.95)).isEqualTo(235);
+        Assertions.assertThat(LatencyHistogram.estimateQuantile(List.of(), 0.95)).isZero();
+    }
+
+    private static CatsTestCase testCase(long responseTime) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setFuzzer("HappyFuzzer");
+        testCase.setResult("success");
+        testCase.setResponse(CatsResponse.from(200, "{}", "GET", responseTime));
+        return testCase;
+    }
+
+    private static CatsTestCase reusedTestCase(long responseTime) {
+        CatsTestCase testCase = testCase(responseTime);
+        testCase.setResponse(testCase.getResponse().toBuilder().reused(true).build());
+        return testCase;
+    }
+}
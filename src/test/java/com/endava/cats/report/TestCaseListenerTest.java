@@ -3,6 +3,7 @@ package com.endava.cats.report;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.exception.CatsCircuitOpenException;
 import com.endava.cats.exception.CatsException;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.http.HttpMethod;
@@ -11,6 +12,7 @@ import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.model.FuzzingData;
+import com.google.gson.JsonParser;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.Discriminator;
@@ -29,6 +31,7 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -157,6 +160,38 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseIoErrors();
     }
 
+    @Test
+    void shouldAssignNewTestIdsToMergedTestCases() {
+        CatsTestCase first = new CatsTestCase();
+        first.setTestId("Test 1");
+        first.setResult("warn");
+        CatsTestCase second = new CatsTestCase();
+        second.setTestId("Test 1");
+        second.setResult("error");
+
+        testCaseListener.addMergedTestCase(first);
+        testCaseListener.addMergedTestCase(second);
+
+        Assertions.assertThat(testCaseListener.testCaseMap).containsOnlyKeys("Test 1", "Test 2");
+        Assertions.assertThat(second.getTestId()).isEqualTo("Test 2");
+        Mockito.verify(executionStatisticsListener).increaseWarns();
+        Mockito.verify(executionStatisticsListener).increaseErrors();
+        Mockito.verify(testCaseExporter, Mockito.times(2)).writeTestCase(Mockito.any());
+    }
+
+    @Test
+    void shouldSkipTestWhenCircuitBreakerIsOpen() {
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+            throw new CatsCircuitOpenException("Circuit breaker is open for path /pets");
+        });
+
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
+        Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors();
+        CatsTestCase testCase = testCaseListener.testCaseMap.get("Test 1");
+        Assertions.assertThat(testCase.getResult()).isEqualTo("skipped");
+        Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Skipped due to: Circuit breaker is open for path /pets");
+    }
+
     @Test
     void shouldNotIncreaseIOErrorsForNonIOException() {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
@@ -237,14 +272,12 @@ class TestCaseListenerTest {
         testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
 
         testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
-        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
-        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isNotEmpty();
+        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().size("/test")).isEqualTo(1);
 
         Mockito.when(data.getMethod()).thenReturn(HttpMethod.DELETE);
         Mockito.when(data.getPath()).thenReturn("/test/{testId}");
         testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
-        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
-        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isEmpty();
+        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().size("/test")).isZero();
 
         MDC.remove(TestCaseListener.ID);
         testCaseListener.testCaseMap.clear();
@@ -547,6 +580,57 @@ class TestCaseListenerTest {
         Mockito.verify(spyListener, Mockito.times(1)).reportWarn(logger, "Response does NOT match expected result. Response code [%s] is documented, but response body does NOT matches the corresponding schema.".formatted(response.responseCodeAsString()));
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {"{'tes':1,'test':2}|[tes]", "{'address':{'street':'a','city':'b'}}|[address#street]"}, delimiter = '|')
+    void shouldReportWarnWithUnmatchedFieldsWhenResponseBodyDoesNotMatchSchema(String body, String unmatchedFields) {
+        FuzzingData data = Mockito.mock(FuzzingData.class);
+        CatsResponse response = Mockito.mock(CatsResponse.class);
+        TestCaseListener spyListener = Mockito.spy(testCaseListener);
+        Mockito.when(response.getBody()).thenReturn(body);
+        Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200", "400"));
+        Mockito.when(data.getResponses()).thenReturn(Map.of("200", List.of("{'test':'4','address':{'city':'x'}}"), "400", Collections.singletonList("{'other':'2'}")));
+        Mockito.when(response.responseCodeAsString()).thenReturn("200");
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+
+        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
+            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+            spyListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
+        });
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns();
+        Mockito.verify(spyListener, Mockito.times(1)).reportWarn(logger, "Response does NOT match expected result. Response code [200] is documented, but response body does NOT matches the corresponding schema. Response fields not matching the schema: " + unmatchedFields);
+    }
+
+    @Test
+    void shouldReportWarnWithoutWrapperFieldWhenNonJsonResponseDoesNotMatchSchema() {
+        TestCaseListener spyListener = this.reportNonJsonResponse("{'test':'4'}");
+
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns();
+        Mockito.verify(spyListener, Mockito.times(1)).reportWarn(logger, "Response does NOT match expected result. Response code [200] is documented, but response body does NOT matches the corresponding schema.");
+    }
+
+    @Test
+    void shouldReportInfoWhenNonJsonResponseIsDocumentedAsPlainValue() {
+        TestCaseListener spyListener = this.reportNonJsonResponse("plain text");
+
+        Mockito.verify(spyListener, Mockito.times(1)).reportInfo(logger, "Response matches expected result. Response code [200] is documented and response body matches the corresponding schema.");
+    }
+
+    private TestCaseListener reportNonJsonResponse(String documentedResponse) {
+        FuzzingData data = Mockito.mock(FuzzingData.class);
+        CatsResponse response = CatsResponse.builder().responseCode(200).body("not a json response")
+                .jsonBody(JsonParser.parseString("{\"notAJson\": \"not a json response\"}")).build();
+        TestCaseListener spyListener = Mockito.spy(testCaseListener);
+        Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200"));
+        Mockito.when(data.getResponses()).thenReturn(Map.of("200", List.of(documentedResponse)));
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+
+        spyListener.createAndExecuteTest(logger, fuzzer, () -> {
+            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+            spyListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX);
+        });
+        return spyListener;
+    }
+
     @ParameterizedTest
     @CsvSource({"406,FOURXX_MT", "415,FOURXX_MT", "400,FOURXX"})
     void shouldReportInfoWhenResponseCodeNotNecessarilyDocumentedIsExpectedAndResponseBodyMatchesButFuzzedFieldNotPresent(String responseCode, ResponseCodeFamily family) {
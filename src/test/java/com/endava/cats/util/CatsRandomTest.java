@@ -0,0 +1,93 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class CatsRandomTest {
+
+    @AfterEach
+    void tearDown() {
+        CatsRandom.initRandom(null);
+    }
+
+    @Test
+    void shouldGenerateSameValuesPerWorkUnitRegardlessOfThreads() throws Exception {
+        CatsRandom.initRandom(42L);
+        Map<Integer, List<String>> sequential = this.generateInWorkUnits(1);
+        CatsRandom.initRandom(42L);
+        Map<Integer, List<String>> concurrent = this.generateInWorkUnits(4);
+
+        Assertions.assertThat(concurrent).isEqualTo(sequential);
+        Assertions.assertThat(sequential.get(0)).isNotEqualTo(sequential.get(1));
+    }
+
+    @Test
+    void shouldNotDependOnValuesConsumedBeforeWorkUnit() {
+        CatsRandom.initRandom(42L);
+        List<String> first = this.generateInWorkUnit(3);
+        CatsRandom.initRandom(42L);
+        CatsRandom.randomAlphanumeric(100);
+        List<String> second = this.generateInWorkUnit(3);
+
+        Assertions.assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void shouldRestoreGlobalGeneratorAfterWorkUnit() {
+        CatsRandom.initRandom(42L);
+        Random global = CatsRandom.instance();
+        CatsRandom.runInWorkUnit(1, () -> Assertions.assertThat(CatsRandom.instance()).isNotSameAs(global));
+        Assertions.assertThat(CatsRandom.instance()).isSameAs(global);
+        String afterWorkUnit = CatsRandom.randomAlphanumeric(10);
+        CatsRandom.initRandom(42L);
+
+        Assertions.assertThat(CatsRandom.randomAlphanumeric(10)).isEqualTo(afterWorkUnit);
+    }
+
+    @Test
+    void shouldGenerateVersion4Uuid() {
+        UUID uuid = CatsRandom.randomUUID();
+
+        Assertions.assertThat(uuid.version()).isEqualTo(4);
+        Assertions.assertThat(uuid.variant()).isEqualTo(2);
+        Assertions.assertThat(UUID.fromString(uuid.toString())).isEqualTo(uuid);
+    }
+
+    @Test
+    void shouldGenerateNumericWithinLengthBounds() {
+        Assertions.assertThat(CatsRandom.randomNumeric(1, 4)).hasSizeBetween(1, 3).containsOnlyDigits();
+        Assertions.assertThat(CatsRandom.randomNumeric(5, 5)).hasSize(5).containsOnlyDigits();
+    }
+
+    private Map<Integer, List<String>> generateInWorkUnits(int threads) throws InterruptedException {
+        Map<Integer, List<String>> result = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        IntStream.range(0, 8).forEach(workUnit -> executor.execute(() -> result.put(workUnit, this.generateInWorkUnit(workUnit))));
+        executor.shutdown();
+        Assertions.assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        return result;
+    }
+
+    private List<String> generateInWorkUnit(int workUnit) {
+        String[] values = new String[3];
+        CatsRandom.runInWorkUnit(workUnit, () -> {
+            values[0] = CatsRandom.randomAlphanumeric(20);
+            values[1] = CatsRandom.randomUUID().toString();
+            values[2] = String.valueOf(CatsRandom.instance().nextInt(1000));
+        });
+        return List.of(values);
+    }
+}
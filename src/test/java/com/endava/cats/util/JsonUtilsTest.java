@@ -1,6 +1,7 @@
 package com.endava.cats.util;
 
 import com.endava.cats.json.JsonUtils;
+import com.jayway.jsonpath.DocumentContext;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -132,6 +133,40 @@ class JsonUtilsTest {
         Assertions.assertThat(result).isFalse();
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {"not a json", "  <html>{}</html>", "x{\"field\":1}", "null"}, nullValues = "null", delimiter = '|')
+    void shouldNotBeValidJsonWhenNotStartingAsJson(String payload) {
+        Assertions.assertThat(JsonUtils.isValidJson(payload)).isFalse();
+    }
+
+    @Test
+    void shouldCheckPredicatesOnAlreadyParsedDocument() {
+        DocumentContext document = JsonUtils.parseAsDocument("[{\"test\":[{\"inner\": 4}], \"other\": 2, \"obj\": {\"a\": 1}}]");
+
+        Assertions.assertThat(JsonUtils.isJsonArray(document)).isTrue();
+        Assertions.assertThat(JsonUtils.isArray(document, "test")).isTrue();
+        Assertions.assertThat(JsonUtils.isPrimitive(document, "other")).isTrue();
+        Assertions.assertThat(JsonUtils.isObject(document, "obj")).isTrue();
+        Assertions.assertThat(JsonUtils.isPrimitive(document, "missing")).isFalse();
+        Assertions.assertThat(JsonUtils.isFieldInJson(document, "$[0]#obj#a")).isTrue();
+    }
+
+    @Test
+    void shouldNotBeJsonArrayWhenObject() {
+        Assertions.assertThat(JsonUtils.isJsonArray("  {\"test\": [1, 2]}")).isFalse();
+    }
+
+    @Test
+    void shouldDeleteMultipleNodesFromParsedDocument() {
+        DocumentContext document = JsonUtils.parseAsDocument("{\"field\": 2, \"other\": 3, \"kept\": 4}");
+
+        JsonUtils.deleteNodeFromDocument(document, "$#field");
+        JsonUtils.deleteNodeFromDocument(document, "$#missing#inner");
+        JsonUtils.deleteNodeFromDocument(document, "other");
+
+        Assertions.assertThat(document.jsonString()).isEqualTo("{\"kept\":4}");
+    }
+
     @ParameterizedTest
     @CsvSource(value = {"null", "{}", "\"{}\""}, nullValues = "null")
     void shouldReturnEmptyPayload(String payload) {
@@ -150,7 +185,7 @@ class JsonUtilsTest {
     }
 
     @ParameterizedTest
-    @CsvSource({"prop1#prop1#prop1", "prop1#prop2#prop3#prop1#prop2", "prop1#prop2#prop3#prop2#prop3", "prop1#prop2#prop1"})
+    @CsvSource({"prop1#prop1#prop1", "prop1#prop2#prop3#prop1#prop2", "prop1#prop2#prop3#prop2#prop3", "prop1#prop2#prop1", "prop1#PROP1#prop2"})
     void shouldReturnCyclic(String properties) {
         Assertions.assertThat(JsonUtils.isCyclicReference(properties, 3)).isTrue();
     }